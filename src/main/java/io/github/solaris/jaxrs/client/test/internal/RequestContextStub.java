@@ -17,6 +17,8 @@ import jakarta.ws.rs.core.Cookie;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import org.jspecify.annotations.Nullable;
+
 public interface RequestContextStub extends ClientRequestContext {
 
     @Override
@@ -31,7 +33,7 @@ public interface RequestContextStub extends ClientRequestContext {
 
     //<editor-fold desc="UnsupportedOperationExceptions">
     @Override
-    default Object getProperty(String name) {
+    default @Nullable Object getProperty(String name) {
         throw new UnsupportedOperationException();
     }
 
@@ -71,7 +73,7 @@ public interface RequestContextStub extends ClientRequestContext {
     }
 
     @Override
-    default String getHeaderString(String name) {
+    default @Nullable String getHeaderString(String name) {
         throw new UnsupportedOperationException();
     }
 
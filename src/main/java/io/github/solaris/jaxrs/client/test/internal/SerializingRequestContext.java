@@ -1,4 +1,4 @@
-package io.github.solaris.jaxrs.client.test.response;
+package io.github.solaris.jaxrs.client.test.internal;
 
 import java.lang.reflect.Type;
 
@@ -6,9 +6,10 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 
-import io.github.solaris.jaxrs.client.test.internal.RequestContextStub;
-
-record SerializingRequestContext(Response response) implements RequestContextStub {
+/**
+ * Presents an outbound {@link Response} as a request, so its entity can be serialized by an {@link io.github.solaris.jaxrs.client.test.request.EntityConverter EntityConverter}.
+ */
+public record SerializingRequestContext(Response response) implements RequestContextStub {
 
     @Override
     public MultivaluedMap<String, Object> getHeaders() {
@@ -0,0 +1,32 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+final class SystemTimeline implements Timeline {
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.now();
+    }
+
+    @Override
+    public void await(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a delayed response.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+/**
+ * Marks requests that were answered by a simulated rate limit, so they can be reported on verification.
+ */
+public final class Throttling {
+    private static final String PROPERTY = Throttling.class.getName();
+
+    private Throttling() {}
+
+    public static void markThrottled(ClientRequestContext requestContext) {
+        requestContext.setProperty(PROPERTY, Boolean.TRUE);
+    }
+
+    public static boolean isThrottled(ClientRequestContext requestContext) {
+        return Boolean.TRUE.equals(requestContext.getProperty(PROPERTY));
+    }
+}
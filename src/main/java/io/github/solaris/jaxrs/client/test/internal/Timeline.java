@@ -0,0 +1,43 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import java.io.InterruptedIOException;
+import java.time.Instant;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+/**
+ * Source of time for everything that simulates the passing of time, e.g. delayed responses.
+ * <p>Either the system's time or the time of a {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock}.</p>
+ */
+public interface Timeline {
+    Timeline SYSTEM = new SystemTimeline();
+
+    /**
+     * Obtain the {@code Timeline} the {@link io.github.solaris.jaxrs.client.test.server.MockResponseFilter MockResponseFilter}
+     * attached to the current request, falling back to the system's time.
+     */
+    static Timeline fromRequestContext(ClientRequestContext requestContext) {
+        if (requestContext.getProperty(Timeline.class.getName()) instanceof Timeline timeline) {
+            return timeline;
+        }
+        return SYSTEM;
+    }
+
+    /**
+     * The current time of the timeline in nanoseconds, only meaningful when compared to other values of the same timeline.
+     */
+    long nanoTime();
+
+    /**
+     * The current wall-clock time of the timeline, e.g. to evaluate the dates of HTTP headers.
+     */
+    Instant instant();
+
+    /**
+     * Block the current thread until the given amount of nanoseconds has passed on the timeline.
+     *
+     * @param nanos The delay in nanoseconds, values {@code <= 0} return immediately
+     * @throws InterruptedIOException If the current thread is interrupted while waiting
+     */
+    void await(long nanos) throws InterruptedIOException;
+}
@@ -0,0 +1,129 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Timeline} that only moves forward when explicitly advanced.
+ * <p>Waiting threads are released in order of their deadlines as soon as the timeline is advanced past them.</p>
+ */
+public final class VirtualTimeline implements Timeline {
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final Instant origin;
+
+    private long now;
+    private long sequence;
+
+    /**
+     * @param origin The wall-clock time at which the timeline starts
+     */
+    public VirtualTimeline(Instant origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public synchronized long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public Instant instant() {
+        return origin.plusNanos(nanoTime());
+    }
+
+    @Override
+    public void await(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+
+        Waiter waiter;
+        synchronized (this) {
+            waiter = new Waiter(plus(now, nanos), sequence++, new CountDownLatch(1));
+            waiters.add(waiter);
+            notifyAll();
+        }
+
+        try {
+            waiter.latch().await();
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the virtual clock to advance.");
+        }
+    }
+
+    /**
+     * Move the timeline forward by the given amount of nanoseconds, releasing all threads whose deadline has passed.
+     */
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Time can only move forward.");
+        }
+
+        long target;
+        synchronized (this) {
+            target = plus(now, nanos);
+        }
+        advanceTo(target);
+    }
+
+    /**
+     * The amount of threads currently waiting for the timeline to advance.
+     */
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Block until at least the given amount of threads are waiting for the timeline to advance.
+     *
+     * @param count   The minimum amount of waiting threads
+     * @param timeout How long to wait in real time, in nanoseconds
+     * @return Whether enough threads were waiting before the timeout elapsed
+     * @throws InterruptedException If the calling thread was interrupted while waiting
+     */
+    public synchronized boolean awaitWaiting(int count, long timeout) throws InterruptedException {
+        long end = System.nanoTime() + timeout;
+        while (waiters.size() < count) {
+            long remaining = end - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    private synchronized void advanceTo(long target) {
+        if (target <= now) {
+            return;
+        }
+
+        Waiter waiter;
+        while ((waiter = waiters.peek()) != null && waiter.deadline() <= target) {
+            waiters.poll();
+            now = waiter.deadline();
+            waiter.latch().countDown();
+        }
+        now = target;
+    }
+
+    private static long plus(long now, long nanos) {
+        return nanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + nanos;
+    }
+
+    private record Waiter(long deadline, long sequence, CountDownLatch latch) implements Comparable<Waiter> {
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.solaris.jaxrs.client.test.manager;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>Finds the expectations for a request by its method and the segments of its path instead of trying every expectation.</p>
+ * <p>
+ * Each expectation is registered under an HTTP method and a URI template like {@code /users/{id}/orders},
+ * optionally prefixed by scheme and authority. Template variables match exactly one path segment.
+ * Among the candidates for a request, literal segments take precedence over variables,
+ * candidates with the same path are tried in order of registration.
+ * </p>
+ */
+final class RequestExpectationIndex {
+    private static final String ANY_ORIGIN = "";
+
+    private final Map<String, Node> roots = new HashMap<>();
+    private final List<RequestExpectation> expectations = new ArrayList<>();
+
+    void add(String method, String uriTemplate, RequestExpectation expectation) {
+        String origin = ANY_ORIGIN;
+        String path = uriTemplate;
+        int schemeEnd = uriTemplate.indexOf("://");
+        if (schemeEnd > 0) {
+            int pathStart = uriTemplate.indexOf('/', schemeEnd + 3);
+            origin = (pathStart == -1 ? uriTemplate : uriTemplate.substring(0, pathStart)).toLowerCase(Locale.ROOT);
+            path = pathStart == -1 ? "/" : uriTemplate.substring(pathStart);
+        }
+        if (path.indexOf('?') != -1 || path.indexOf('#') != -1) {
+            throw new IllegalArgumentException("'uriTemplate' must not contain a query or fragment but was " + uriTemplate);
+        }
+
+        Node node = roots.computeIfAbsent(key(method, origin), ignored -> new Node());
+        for (String segment : segments(path)) {
+            node = segment.startsWith("{") && segment.endsWith("}")
+                    ? node.variable()
+                    : node.literals.computeIfAbsent(segment, ignored -> new Node());
+        }
+        node.expectations.add(expectation);
+        expectations.add(expectation);
+    }
+
+    /**
+     * The first matching expectation with remaining calls.
+     */
+    @Nullable RequestExpectation find(ClientRequestContext request) throws IOException {
+        if (expectations.isEmpty()) {
+            return null;
+        }
+
+        URI uri = request.getUri();
+        List<String> segments = segments(uri.getPath() != null ? uri.getPath() : "/");
+        List<RequestExpectation> candidates = new ArrayList<>();
+        if (uri.getScheme() != null && uri.getRawAuthority() != null) {
+            collect(roots.get(key(request.getMethod(), (uri.getScheme() + "://" + uri.getRawAuthority()).toLowerCase(Locale.ROOT))),
+                    segments, 0, candidates);
+        }
+        collect(roots.get(key(request.getMethod(), ANY_ORIGIN)), segments, 0, candidates);
+
+        for (RequestExpectation candidate : candidates) {
+            if (candidate.hasRemainingCount()) {
+                try {
+                    candidate.match(request);
+                    return candidate;
+                } catch (AssertionError ignored) {
+                    // Try the next candidate
+                }
+            }
+        }
+        return null;
+    }
+
+    List<RequestExpectation> getExpectations() {
+        return expectations;
+    }
+
+    void reset() {
+        roots.clear();
+        expectations.clear();
+    }
+
+    private static void collect(@Nullable Node node, List<String> segments, int index, List<RequestExpectation> candidates) {
+        if (node == null) {
+            return;
+        }
+        if (index == segments.size()) {
+            candidates.addAll(node.expectations);
+            return;
+        }
+        collect(node.literals.get(segments.get(index)), segments, index + 1, candidates);
+        collect(node.variable, segments, index + 1, candidates);
+    }
+
+    private static String key(String method, String origin) {
+        return method.toUpperCase(Locale.ROOT) + ' ' + origin;
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<RequestExpectation> expectations = new ArrayList<>();
+        private @Nullable Node variable;
+
+        private Node variable() {
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+    }
+}
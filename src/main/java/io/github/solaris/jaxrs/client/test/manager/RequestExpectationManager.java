@@ -11,10 +11,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.Response;
 
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.Throttling;
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
 import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
 import io.github.solaris.jaxrs.client.test.response.ResponseActions;
@@ -28,6 +33,9 @@ public abstract class RequestExpectationManager {
     private final List<RequestExpectation> expectations = new ArrayList<>();
     private final List<ClientRequestContext> requests = new ArrayList<>();
     private final Map<ClientRequestContext, Throwable> failedRequests = new LinkedHashMap<>();
+    private final RequestExpectationIndex index = new RequestExpectationIndex();
+
+    private Timeline timeline = Timeline.SYSTEM;
 
     RequestExpectationManager() {}
 
@@ -39,6 +47,22 @@ public abstract class RequestExpectationManager {
         return expectations;
     }
 
+    /**
+     * The {@link Timeline} used for simulated delays.
+     */
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * @see io.github.solaris.jaxrs.client.test.server.MockRestServerBuilder#withClock(io.github.solaris.jaxrs.client.test.server.VirtualClock)
+     * MockRestServerBuilder.withClock(VirtualClock)
+     */
+    public void setTimeline(Timeline timeline) {
+        validateNotNull(timeline, "'timeline' must not be null.");
+        this.timeline = timeline;
+    }
+
     /**
      * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#expect(RequestMatcher) MockRestServer.expect(RequestMatcher)
      * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#expect(ExpectedCount, RequestMatcher) MockRestServer.expect(ExpectedCount, RequestMatcher)
@@ -53,6 +77,33 @@ public abstract class RequestExpectationManager {
         return expectation;
     }
 
+    /**
+     * <p>Set up an expectation that is found by its HTTP method and URI template instead of being tried for every request.</p>
+     * <p>
+     * Requests matching an indexed expectation are answered by it regardless of the {@code RequestOrder},
+     * before the expectations declared via {@link #expectRequest(ExpectedCount, RequestMatcher)} are considered.
+     * </p>
+     *
+     * @param count       The amount of times the request is expected
+     * @param method      The HTTP method
+     * @param uriTemplate The path of the request, optionally prefixed by scheme and authority,
+     *                    whose segments may be variables like {@code /users/{id}}
+     * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#expectAll(io.github.solaris.jaxrs.client.test.server.Fixtures)
+     * MockRestServer.expectAll(Fixtures)
+     */
+    public ResponseActions expectIndexed(ExpectedCount count, String method, String uriTemplate) {
+        validateNotNull(method, "'method' must not be null.");
+        validateNotNull(uriTemplate, "'uriTemplate' must not be null.");
+        if (!requests.isEmpty()) {
+            throw new IllegalStateException("Cannot declare further expectations after the first request.");
+        }
+
+        // Method and URI are matched by the index
+        RequestExpectation expectation = new RequestExpectation(count, request -> {});
+        index.add(method, uriTemplate, expectation);
+        return expectation;
+    }
+
     /**
      * Validate the incoming request against the set-up expectations and respond if a match was found.
      *
@@ -68,7 +119,10 @@ public abstract class RequestExpectationManager {
             }
 
             try {
-                expectation = matchRequest(requestContext);
+                expectation = findIndexed(requestContext);
+                if (expectation == null) {
+                    expectation = matchRequest(requestContext);
+                }
             } catch (Throwable t) {
                 failedRequests.put(requestContext, t);
                 throw t;
@@ -80,6 +134,14 @@ public abstract class RequestExpectationManager {
         return expectation.createResponse(requestContext);
     }
 
+    private @Nullable RequestExpectation findIndexed(ClientRequestContext requestContext) throws IOException {
+        RequestExpectation expectation = index.find(requestContext);
+        if (expectation != null) {
+            expectation.incrementAndValidate();
+        }
+        return expectation;
+    }
+
     /**
      * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#verify() MockRestServer.verify()
      */
@@ -117,10 +179,11 @@ public abstract class RequestExpectationManager {
         requests.clear();
         expectations.clear();
         failedRequests.clear();
+        index.reset();
     }
 
     private long countUnsatisfiedExpectations() {
-        if (expectations.isEmpty()) {
+        if (expectations.isEmpty() && index.getExpectations().isEmpty()) {
             return 0;
         }
 
@@ -132,7 +195,7 @@ public abstract class RequestExpectationManager {
                             .collect(Collectors.joining("\n", "\n", "")));
         }
 
-        return expectations.stream()
+        return Stream.concat(expectations.stream(), index.getExpectations().stream())
                 .filter(expectation -> !expectation.isSatisfied())
                 .count();
     }
@@ -146,6 +209,10 @@ public abstract class RequestExpectationManager {
     private String getRequestDetails() {
         StringBuilder builder = new StringBuilder();
         builder.append(requests.size()).append(" request(s) executed");
+        long throttled = requests.stream().filter(Throttling::isThrottled).count();
+        if (throttled != 0) {
+            builder.append(", ").append(throttled).append(" of them throttled by a rate limit");
+        }
         if (!requests.isEmpty()) {
             builder.append(":\n");
             for (ClientRequestContext request : requests) {
@@ -163,6 +230,9 @@ public abstract class RequestExpectationManager {
         if (!requestContext.getStringHeaders().isEmpty()) {
             builder.append(", headers: ").append(requestContext.getStringHeaders());
         }
+        if (Throttling.isThrottled(requestContext)) {
+            builder.append(" (throttled)");
+        }
         return builder.toString();
     }
 }
@@ -16,6 +16,8 @@ import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 
+import org.jspecify.annotations.Nullable;
+
 import io.github.solaris.jaxrs.client.test.internal.ClientCleaner;
 
 /**
@@ -31,6 +33,8 @@ public final class ClientEntityConverter extends EntityConverter {
     private static final URI LOCALHOST = URI.create("http://localhost");
     private static final RoundTripFilter ROUND_TRIP_FILTER = new RoundTripFilter();
 
+    private @Nullable Client client;
+
     public ClientEntityConverter() {}
 
     @Override
@@ -72,15 +76,31 @@ public final class ClientEntityConverter extends EntityConverter {
         }
     }
 
+    @Override
+    byte[] writeEntity(ClientRequestContext requestContext) {
+        try (Response response = convertEntity(requestContext)) {
+            return response.readEntity(byte[].class);
+        }
+    }
+
     private Response convertEntity(ClientRequestContext requestContext) {
-        // Directly closing the 'inner' client here causes Jersey to close the 'outer' client as well
-        Client client = ClientBuilder.newClient().register(ROUND_TRIP_FILTER);
-        ClientCleaner.register(this, client);
-        return client.target(LOCALHOST)
+        return conversionClient().target(LOCALHOST)
                 .request(requestContext.getMediaType())
                 .post(Entity.entity(requestContext.getEntity(), requestContext.getMediaType()));
     }
 
+    /**
+     * The {@link Client} used for all conversions of this converter, created on first use.
+     */
+    private synchronized Client conversionClient() {
+        if (client == null) {
+            // Directly closing the 'inner' client here causes Jersey to close the 'outer' client as well
+            client = ClientBuilder.newClient().register(ROUND_TRIP_FILTER);
+            ClientCleaner.register(this, client);
+        }
+        return client;
+    }
+
     private static final class RoundTripFilter implements ClientRequestFilter {
 
         @Override
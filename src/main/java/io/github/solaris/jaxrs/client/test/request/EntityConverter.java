@@ -8,6 +8,7 @@ import static jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -16,9 +17,12 @@ import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.solaris.jaxrs.client.test.internal.RequestContextStub;
+
 /**
  * Utility class for {@link RequestMatcher} implementations to convert a request {@code entity} into another type, e.g. from a POJO into a String.
  * <p>Can be obtained inside a {@code RequestMatcher} implementation via {@link #fromRequestContext(ClientRequestContext)}.</p>
@@ -144,8 +148,50 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
      */
     public abstract <T> T convertEntity(ClientRequestContext requestContext, GenericType<T> genericType) throws IOException;
 
+    /**
+     * <p>Obtain the serialized entity of the current {@link ClientRequestContext} as a read-only view of its bytes.</p>
+     * <p>
+     * When the JAX-RS {@link jakarta.ws.rs.ext.Providers Providers} are available, the entity is serialized at most once per request
+     * and all conversions of it read the same bytes instead of serializing it again.
+     * Entities that already are a {@code byte[]}, e.g. the requests received by a
+     * {@link io.github.solaris.jaxrs.client.test.server.LoopbackServer LoopbackServer}, are not copied.
+     * </p>
+     *
+     * @param requestContext The current request
+     * @return The serialized entity
+     * @throws IOException If an I/O error occurs during serialization
+     */
+    public ByteBuffer serializeEntity(ClientRequestContext requestContext) throws IOException {
+        validateNotNull(requestContext, "'requestContext' must not be null.");
+        assertEntityPresent(requestContext);
+        byte[] serialized = requestContext.getEntity() instanceof byte[] bytes ? bytes : serialized(requestContext);
+        return ByteBuffer.wrap(serialized).asReadOnlyBuffer();
+    }
+
     abstract List<EntityPart> serializeEntityParts(ClientRequestContext requestContext) throws IOException;
 
+    abstract byte[] writeEntity(ClientRequestContext requestContext) throws IOException;
+
+    /**
+     * The serialized entity, cached in the request until the entity or its media type change. Stubs have no properties to cache it in.
+     */
+    final byte[] serialized(ClientRequestContext requestContext) throws IOException {
+        if (requestContext instanceof RequestContextStub) {
+            return writeEntity(requestContext);
+        }
+
+        Object entity = requestContext.getEntity();
+        MediaType mediaType = requestContext.getMediaType();
+        if (requestContext.getProperty(SerializedEntity.class.getName()) instanceof SerializedEntity serialized
+                && serialized.entity() == entity
+                && Objects.equals(serialized.mediaType(), mediaType)) {
+            return serialized.bytes();
+        }
+        byte[] bytes = writeEntity(requestContext);
+        requestContext.setProperty(SerializedEntity.class.getName(), new SerializedEntity(entity, mediaType, bytes));
+        return bytes;
+    }
+
     static boolean canShortCircuit(ClientRequestContext requestContext, Class<?> type, @Nullable Type genericType) {
         if (genericType == null) {
             return type.isAssignableFrom(requestContext.getEntityClass());
@@ -187,4 +233,6 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
 
         return new GenericEntity<>(recreated) {};
     }
+
+    private record SerializedEntity(Object entity, @Nullable MediaType mediaType, byte[] bytes) {}
 }
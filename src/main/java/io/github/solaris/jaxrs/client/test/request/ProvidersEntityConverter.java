@@ -64,11 +64,13 @@ public final class ProvidersEntityConverter extends EntityConverter {
     @Override
     @SuppressWarnings("unchecked")
     List<EntityPart> serializeEntityParts(ClientRequestContext requestContext) throws IOException {
-        return convertEntity(requestContext, (Class<List<EntityPart>>) ENTITY_PARTS.getRawType(), ENTITY_PARTS.getType());
+        // Not cached, since the Content-Type header that carries the boundary of the parts is reset after buffering them
+        return readEntity(requestContext, (Class<List<EntityPart>>) ENTITY_PARTS.getRawType(), ENTITY_PARTS.getType(), writeEntity(requestContext));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T convertEntity(ClientRequestContext requestContext, Class<T> type, Type genericType) throws IOException {
+    @Override
+    byte[] writeEntity(ClientRequestContext requestContext) throws IOException {
+        @SuppressWarnings("unchecked")
         MessageBodyWriter<Object> writer = (MessageBodyWriter<Object>) providers.getMessageBodyWriter(
                 requestContext.getEntityClass(),
                 requestContext.getEntityType(),
@@ -77,7 +79,8 @@ public final class ProvidersEntityConverter extends EntityConverter {
         );
 
         if (writer == null) {
-            throw new ProcessingException("Unable to obtain MessageBodyWriter for type=" + type + " and genericType=" + genericType);
+            throw new ProcessingException("Unable to obtain MessageBodyWriter for type=" + requestContext.getEntityClass()
+                    + " and genericType=" + requestContext.getEntityType());
         }
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -90,7 +93,14 @@ public final class ProvidersEntityConverter extends EntityConverter {
                 requestContext.getHeaders(),
                 outputStream
         );
+        return outputStream.toByteArray();
+    }
+
+    private <T> T convertEntity(ClientRequestContext requestContext, Class<T> type, Type genericType) throws IOException {
+        return readEntity(requestContext, type, genericType, serialized(requestContext));
+    }
 
+    private <T> T readEntity(ClientRequestContext requestContext, Class<T> type, Type genericType, byte[] serialized) throws IOException {
         MessageBodyReader<T> reader = providers.getMessageBodyReader(
                 type,
                 genericType,
@@ -102,14 +112,13 @@ public final class ProvidersEntityConverter extends EntityConverter {
             throw new ProcessingException("Unable to obtain MessageBodyReader for type=" + type + " and genericType=" + genericType);
         }
 
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
         return reader.readFrom(
                 type,
                 genericType,
                 ANNOTATIONS,
                 requestContext.getMediaType(),
                 requestContext.getStringHeaders(),
-                inputStream
+                new ByteArrayInputStream(serialized)
         );
     }
 }
@@ -75,12 +75,15 @@ public final class XpathRequestMatchers {
         factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         Document document = factory.newDocumentBuilder().parse(inputSource);
 
-        // XPathExpression::evaluateExpression only supports javax.xml.xpath.XPathNodes for NODESET
-        if (NodeList.class.equals(targetType)) {
-            return (T) xPathExpression.evaluate(document, XPathConstants.NODESET);
-        }
+        // XPathExpression is not thread-safe, but matchers may be shared, e.g. through an ExpectationSet
+        synchronized (xPathExpression) {
+            // XPathExpression::evaluateExpression only supports javax.xml.xpath.XPathNodes for NODESET
+            if (NodeList.class.equals(targetType)) {
+                return (T) xPathExpression.evaluate(document, XPathConstants.NODESET);
+            }
 
-        return xPathExpression.evaluateExpression(document, targetType);
+            return xPathExpression.evaluateExpression(document, targetType);
+        }
     }
 
     /**
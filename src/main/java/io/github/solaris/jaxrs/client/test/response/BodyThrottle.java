@@ -0,0 +1,110 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * <p>Simulates an upstream that sends the response body slowly, in chunks or with pauses.</p>
+ * <p>
+ * The response body is handed to the client in chunks of at most {@code chunkSize} bytes,
+ * each chunk becomes available once the configured transfer rate allows it.
+ * Additionally, the transfer can stall for a while after a given amount of bytes, e.g. to test read timeouts.
+ * </p>
+ * <p>
+ * The waiting happens while the client reads the body: the reading thread sleeps until the next chunk is due,
+ * measured on the {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock} of the server, if there is one.
+ * A {@code BodyThrottle} only holds the configuration and can be shared by any amount of responses.
+ * </p>
+ * <pre><code>
+ *  BodyThrottle slowUpstream = BodyThrottle.bytesPerSecond(64 * 1024)
+ *      .chunkSize(1024)
+ *      .stallAfter(100_000, Duration.ofSeconds(30));
+ *
+ *  server.expect(requestTo("/download"))
+ *      .andRespond(withSuccess().entityGenerated(1_000_000, 42L).throttleBody(slowUpstream));
+ * </code></pre>
+ *
+ * @see MockResponseCreator#throttleBody(BodyThrottle)
+ */
+public final class BodyThrottle {
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final double nanosPerByte;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private final List<Stall> stalls = new ArrayList<>();
+
+    private BodyThrottle(double nanosPerByte) {
+        this.nanosPerByte = nanosPerByte;
+    }
+
+    /**
+     * Transfer the response body at the given rate.
+     *
+     * @param bytesPerSecond The transfer rate
+     */
+    public static BodyThrottle bytesPerSecond(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("'bytesPerSecond' must be positive.");
+        }
+        return new BodyThrottle(1e9 / bytesPerSecond);
+    }
+
+    /**
+     * Transfer the response body without a rate limit, e.g. to only split it into chunks or to let it stall.
+     */
+    public static BodyThrottle unlimited() {
+        return new BodyThrottle(0);
+    }
+
+    /**
+     * Hand the response body to the client in chunks of at most the given size. Defaults to 8192 bytes.
+     *
+     * @param chunkSize The maximum amount of bytes per chunk
+     */
+    public BodyThrottle chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' must be positive.");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Pause the transfer for the given duration once {@code bytes} bytes of the response body have been transferred.
+     * May be called multiple times to let the transfer stall repeatedly.
+     *
+     * @param bytes    The amount of bytes after which the transfer stalls
+     * @param duration The duration of the stall
+     */
+    public BodyThrottle stallAfter(long bytes, Duration duration) {
+        validateNotNull(duration, "'duration' must not be null.");
+        if (bytes < 0) {
+            throw new IllegalArgumentException("'bytes' must not be negative.");
+        }
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'duration' must not be negative.");
+        }
+        stalls.add(new Stall(bytes, duration.toNanos()));
+        stalls.sort(Comparator.comparingLong(Stall::afterBytes));
+        return this;
+    }
+
+    InputStream throttle(InputStream body, Timeline timeline) {
+        return new ThrottledInputStream(body, timeline, chunkSize, nanosPerByte, List.copyOf(stalls));
+    }
+
+    @Override
+    public String toString() {
+        String rate = nanosPerByte > 0 ? Math.round(1e9 / nanosPerByte) + " bytes/s" : "unlimited";
+        return "BodyThrottle[rate=" + rate + ", chunkSize=" + chunkSize + ", stalls=" + stalls.size() + "]";
+    }
+
+    record Stall(long afterBytes, long nanos) {}
+}
@@ -0,0 +1,90 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_ID;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.LAST_EVENT_ID_HEADER;
+import static jakarta.ws.rs.core.HttpHeaders.WWW_AUTHENTICATE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A response with a fully read body that can be turned into any number of {@link Response Responses}.
+ * <p>
+ * Header names are stored in their canonical case, e.g. {@code X-Served-By}, since the {@code Responses} it creates are looked up
+ * case-sensitively by some implementations, unlike the case-insensitive headers of the live response.
+ * </p>
+ */
+record BufferedResponse(int status, MultivaluedMap<String, String> headers, byte[] body) {
+    private static final Map<String, String> IRREGULAR_NAMES = Map.of(
+            ETAG.toLowerCase(Locale.ROOT), ETAG,
+            WWW_AUTHENTICATE.toLowerCase(Locale.ROOT), WWW_AUTHENTICATE,
+            CONTENT_ID.toLowerCase(Locale.ROOT), CONTENT_ID,
+            LAST_EVENT_ID_HEADER.toLowerCase(Locale.ROOT), LAST_EVENT_ID_HEADER
+    );
+
+    BufferedResponse {
+        MultivaluedMap<String, String> canonical = new MultivaluedHashMap<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            canonical.addAll(canonicalName(header.getKey()), header.getValue());
+        }
+        headers = canonical;
+    }
+
+    /**
+     * Read the status, headers and body of the response and close it.
+     */
+    static BufferedResponse read(ClientRequestContext request, Response response) throws IOException {
+        try (response) {
+            byte[] body = ResponseBodies.read(request, response);
+            return new BufferedResponse(response.getStatus(), response.getStringHeaders(), body);
+        }
+    }
+
+    /**
+     * The first value of the header, ignoring the case of its name like HTTP does.
+     */
+    @Nullable String getHeader(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    Response toResponse() {
+        Response.ResponseBuilder builder = Response.status(status);
+        headers.forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        if (body.length > 0) {
+            builder.entity(new ByteArrayInputStream(body));
+        }
+        return builder.build();
+    }
+
+    private static String canonicalName(String name) {
+        String lowerCase = name.toLowerCase(Locale.ROOT);
+        String irregular = IRREGULAR_NAMES.get(lowerCase);
+        if (irregular != null) {
+            return irregular;
+        }
+
+        StringBuilder canonical = new StringBuilder(lowerCase);
+        for (int i = 0; i < canonical.length(); i++) {
+            if (i == 0 || canonical.charAt(i - 1) == '-') {
+                canonical.setCharAt(i, Character.toUpperCase(canonical.charAt(i)));
+            }
+        }
+        return canonical.toString();
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * <p>Simulates a server that processes at most a fixed amount of requests concurrently.</p>
+ * <p>
+ * Each request occupies one of the slots of the bulkhead for its service time.
+ * Requests that find all slots occupied wait in a first-in-first-out queue,
+ * requests that find the queue full are rejected with status code 503
+ * ({@link jakarta.ws.rs.core.Response.Status#SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE}) by default.
+ * </p>
+ * <p>
+ * A {@code Bulkhead} applies to all {@code ResponseCreators} it is passed to, so it can be shared across expectations to limit the server as a whole,
+ * or used for a single expectation. The service time and the queue wait times are measured on the
+ * {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock} of the server, if there is one.
+ * </p>
+ * <pre><code>
+ *  Bulkhead bulkhead = Bulkhead.of(4)
+ *      .queue(16)
+ *      .serviceTime(Duration.ofMillis(50));
+ *
+ *  server.expect(ExpectedCount.min(1), requestTo("/inventory"))
+ *      .andRespond(withBulkhead(withSuccess(), bulkhead));
+ *
+ *  // Test code that uses the Client
+ *
+ *  assertThat(bulkhead.getMaxInFlight()).isLessThanOrEqualTo(4);
+ *  assertThat(bulkhead.getRejectedCount()).isZero();
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withBulkhead(ResponseCreator, Bulkhead)
+ */
+public final class Bulkhead {
+    private final int maxConcurrent;
+    private final Semaphore slots;
+
+    private int queueCapacity;
+    private @Nullable Delay serviceTime;
+    private ResponseCreator rejection = MockResponseCreators.withServiceUnavailable();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    private Bulkhead(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.slots = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * A bulkhead that processes up to {@code maxConcurrent} requests at once and rejects all further requests.
+     *
+     * @param maxConcurrent The amount of requests that can be processed at once
+     */
+    public static Bulkhead of(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("'maxConcurrent' must be positive.");
+        }
+        return new Bulkhead(maxConcurrent);
+    }
+
+    /**
+     * Let up to {@code capacity} requests wait for a free slot instead of rejecting them.
+     *
+     * @param capacity The capacity of the queue
+     */
+    public Bulkhead queue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("'capacity' must not be negative.");
+        }
+        this.queueCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Occupy a slot for a fixed amount of time per request.
+     *
+     * @param serviceTime The time it takes to process a request
+     */
+    public Bulkhead serviceTime(Duration serviceTime) {
+        validateNotNull(serviceTime, "'serviceTime' must not be null.");
+        return serviceTime(Latency.fixed(serviceTime));
+    }
+
+    /**
+     * Occupy a slot for a time drawn from the given distribution per request.
+     *
+     * @param serviceTime The distribution of the time it takes to process a request
+     */
+    public Bulkhead serviceTime(Latency serviceTime) {
+        validateNotNull(serviceTime, "'serviceTime' must not be null.");
+        this.serviceTime = Delay.unseeded(serviceTime);
+        return this;
+    }
+
+    /**
+     * Answer rejected requests with the given {@code ResponseCreator} instead of status code 503,
+     * e.g. {@link MockResponseCreators#withException(IOException)} to simulate a refused connection.
+     *
+     * @param rejection Creates the responses for rejected requests
+     */
+    public Bulkhead rejectWith(ResponseCreator rejection) {
+        validateNotNull(rejection, "'rejection' must not be null.");
+        this.rejection = rejection;
+        return this;
+    }
+
+    /**
+     * The amount of requests that can be processed at once.
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * The amount of requests currently being processed.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The highest amount of requests that were processed at once.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * The highest amount of requests that waited in the queue at once.
+     */
+    public int getMaxQueued() {
+        return maxQueued.get();
+    }
+
+    /**
+     * The amount of requests that had to wait in the queue for a free slot.
+     */
+    public long getQueuedCount() {
+        return queuedCount.sum();
+    }
+
+    /**
+     * The amount of requests that were rejected because the queue was full.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * The longest time a request waited in the queue.
+     */
+    public Duration getMaxQueueWait() {
+        return Duration.ofNanos(maxQueueWaitNanos.get());
+    }
+
+    /**
+     * The time all requests waited in the queue combined.
+     */
+    public Duration getTotalQueueWait() {
+        return Duration.ofNanos(totalQueueWaitNanos.sum());
+    }
+
+    Response createResponse(ClientRequestContext request, ResponseCreator responseCreator) throws IOException {
+        if (!tryAcquireSlot()) {
+            if (!enqueue(Timeline.fromRequestContext(request))) {
+                rejectedCount.increment();
+                return rejection.createResponse(request);
+            }
+        }
+
+        try {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            if (serviceTime != null) {
+                serviceTime.await(request);
+            }
+            return responseCreator.createResponse(request);
+        } finally {
+            inFlight.decrementAndGet();
+            slots.release();
+        }
+    }
+
+    private boolean enqueue(Timeline timeline) throws InterruptedIOException {
+        long start = timeline.nanoTime();
+        int waiting = queued.incrementAndGet();
+        try {
+            if (waiting > queueCapacity) {
+                // A slot may have been freed in the meantime
+                return tryAcquireSlot();
+            }
+
+            maxQueued.accumulateAndGet(waiting, Math::max);
+            queuedCount.increment();
+            acquireSlot();
+            long waited = timeline.nanoTime() - start;
+            totalQueueWaitNanos.add(waited);
+            maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+            return true;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquireSlot() throws InterruptedIOException {
+        try {
+            // Unlike tryAcquire(), a timed tryAcquire respects the fairness of the semaphore instead of barging past the queue
+            return slots.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free slot of the bulkhead.");
+        }
+    }
+
+    private void acquireSlot() throws InterruptedIOException {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free slot of the bulkhead.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead[maxConcurrent=" + maxConcurrent + ", inFlight=" + getInFlight() + ", queued=" + queued.get() + "]";
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.InterruptedIOException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * A {@link Latency} together with its source of randomness.
+ */
+final class Delay {
+    private final Latency latency;
+    private final @Nullable RandomGenerator random;
+
+    private Delay(Latency latency, @Nullable RandomGenerator random) {
+        this.latency = latency;
+        this.random = random;
+    }
+
+    static Delay unseeded(Latency latency) {
+        return new Delay(latency, null);
+    }
+
+    static Delay seeded(Latency latency, long seed) {
+        // Random is thread-safe, unlike the faster SplittableRandom
+        return new Delay(latency, new Random(seed));
+    }
+
+    void await(ClientRequestContext request) throws InterruptedIOException {
+        long nanos = latency.sampleNanos(random != null ? random : ThreadLocalRandom.current());
+        Timeline.fromRequestContext(request).await(nanos);
+    }
+}
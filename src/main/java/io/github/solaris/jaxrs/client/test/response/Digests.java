@@ -0,0 +1,30 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The message digests used to identify requests and response bodies.
+ */
+final class Digests {
+    private Digests() {}
+
+    /**
+     * The SHA-256 hash of the bytes.
+     */
+    static byte[] sha256(byte[] bytes) {
+        return sha256().digest(bytes);
+    }
+
+    /**
+     * A new SHA-256 {@link MessageDigest} to hash data that is available in parts.
+     */
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
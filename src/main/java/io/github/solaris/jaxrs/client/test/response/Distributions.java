@@ -0,0 +1,108 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * The built-in {@link Latency} implementations.
+ */
+final class Distributions {
+    private Distributions() {}
+
+    record Fixed(long nanos) implements Latency {
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return nanos;
+        }
+    }
+
+    record Uniform(long minNanos, long maxNanos) implements Latency {
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            if (minNanos == maxNanos) {
+                return minNanos;
+            }
+            return random.nextLong(minNanos, maxNanos + 1);
+        }
+    }
+
+    record Normal(long meanNanos, long standardDeviationNanos) implements Latency {
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return Math.max(0, Math.round(meanNanos + standardDeviationNanos * random.nextGaussian()));
+        }
+    }
+
+    record LogNormal(long medianNanos, double sigma) implements Latency {
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            double sample = medianNanos * Math.exp(sigma * random.nextGaussian());
+            return sample >= Long.MAX_VALUE ? Long.MAX_VALUE : Math.round(sample);
+        }
+    }
+
+    static final class PercentileTable implements Latency {
+        private final double[] percentiles;
+        private final long[] nanos;
+
+        private PercentileTable(double[] percentiles, long[] nanos) {
+            this.percentiles = percentiles;
+            this.nanos = nanos;
+        }
+
+        static PercentileTable of(Map<Double, Duration> table) {
+            TreeMap<Double, Duration> sorted = new TreeMap<>(table);
+            boolean hasZero = sorted.firstKey() == 0;
+
+            int size = hasZero ? sorted.size() : sorted.size() + 1;
+            double[] percentiles = new double[size];
+            long[] nanos = new long[size];
+
+            int i = hasZero ? 0 : 1;
+            for (Map.Entry<Double, Duration> entry : sorted.entrySet()) {
+                double percentile = entry.getKey();
+                if (!(percentile >= 0 && percentile <= 100)) {
+                    throw new IllegalArgumentException("Percentiles must be between 0 and 100 but found " + percentile);
+                }
+
+                Duration duration = entry.getValue();
+                if (duration == null || duration.isNegative()) {
+                    throw new IllegalArgumentException("Latency of percentile " + percentile + " must not be null or negative.");
+                }
+
+                percentiles[i] = percentile;
+                nanos[i] = duration.toNanos();
+                if (i > 0 && nanos[i] < nanos[i - 1]) {
+                    throw new IllegalArgumentException("Latencies must not decrease with increasing percentiles.");
+                }
+                i++;
+            }
+
+            return new PercentileTable(percentiles, nanos);
+        }
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            double percentile = random.nextDouble() * 100;
+            int last = percentiles.length - 1;
+            if (percentile >= percentiles[last]) {
+                return nanos[last];
+            }
+
+            int upper = 1;
+            while (percentiles[upper] <= percentile) {
+                upper++;
+            }
+            int lower = upper - 1;
+
+            double fraction = (percentile - percentiles[lower]) / (percentiles[upper] - percentiles[lower]);
+            return nanos[lower] + Math.round(fraction * (nanos[upper] - nanos[lower]));
+        }
+    }
+}
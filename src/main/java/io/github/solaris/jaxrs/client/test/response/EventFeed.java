@@ -0,0 +1,120 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>The source of the elements of a streamed response, e.g. of {@link MockResponseCreators#withServerSentEvents(EventFeed)}.</p>
+ * <p>
+ * Every response obtains its own sequence of elements from the feed and serializes them one at a time while the client reads the response,
+ * so feeds of any length can be streamed with constant memory. Note that Jersey copies the body of a mocked response into memory
+ * when it is first read, so only finite feeds can be used with it.
+ * </p>
+ * <p>
+ * An interval between the elements simulates a server that publishes events over time, it is measured on the
+ * {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock} of the server, if there is one.
+ * </p>
+ * <pre><code>
+ *  EventFeed prices = EventFeed.fromStream(() -&gt; Stream.iterate(1, i -&gt; i + 1).limit(1_000_000).map(PriceUpdate::random))
+ *      .interval(Duration.ofMillis(10));
+ *
+ *  server.expect(requestTo("/prices")).andRespond(withServerSentEvents(prices));
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withServerSentEvents(EventFeed)
+ * @see MockResponseCreators#withNdjson(EventFeed)
+ */
+public final class EventFeed {
+    private final Supplier<Elements> elements;
+
+    private @Nullable Delay interval;
+
+    private EventFeed(Supplier<Elements> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * A feed that obtains a new {@link Stream} for every response. The stream is closed once the response is closed.
+     *
+     * @param stream Supplies the elements
+     */
+    public static EventFeed fromStream(Supplier<? extends Stream<?>> stream) {
+        validateNotNull(stream, "'stream' must not be null.");
+        return new EventFeed(() -> {
+            Stream<?> elements = stream.get();
+            return new Elements(elements.iterator(), elements::close);
+        });
+    }
+
+    /**
+     * A feed that obtains a new {@link Iterator} for every response.
+     *
+     * @param iterator Supplies the elements
+     */
+    public static EventFeed fromIterator(Supplier<? extends Iterator<?>> iterator) {
+        validateNotNull(iterator, "'iterator' must not be null.");
+        return new EventFeed(() -> new Elements(iterator.get(), () -> {}));
+    }
+
+    /**
+     * <p>A feed that subscribes to the given {@link Flow.Publisher} for every response.</p>
+     * <p>
+     * Elements are requested in small batches as the client reads the response, so a fast publisher is slowed down to the pace of the client.
+     * The subscription is cancelled once the response is closed. An error signaled by the publisher
+     * is thrown as an {@link java.io.IOException IOException} while reading the response.
+     * </p>
+     *
+     * @param publisher Publishes the elements
+     */
+    public static EventFeed fromPublisher(Flow.Publisher<?> publisher) {
+        validateNotNull(publisher, "'publisher' must not be null.");
+        return new EventFeed(() -> subscribe(publisher));
+    }
+
+    /**
+     * Wait for a fixed amount of time before each element except the first.
+     *
+     * @param interval The time between two elements
+     */
+    public EventFeed interval(Duration interval) {
+        validateNotNull(interval, "'interval' must not be null.");
+        return interval(Latency.fixed(interval));
+    }
+
+    /**
+     * Wait for a time drawn from the given distribution before each element except the first.
+     *
+     * @param interval The distribution of the time between two elements
+     */
+    public EventFeed interval(Latency interval) {
+        validateNotNull(interval, "'interval' must not be null.");
+        this.interval = Delay.unseeded(interval);
+        return this;
+    }
+
+    private static <T> Elements subscribe(Flow.Publisher<T> publisher) {
+        PublisherIterator<T> iterator = new PublisherIterator<>();
+        publisher.subscribe(iterator);
+        return new Elements(iterator, iterator::cancel);
+    }
+
+    Elements open() {
+        return elements.get();
+    }
+
+    @Nullable Delay getInterval() {
+        return interval;
+    }
+
+    /**
+     * The elements for a single response.
+     */
+    record Elements(Iterator<?> iterator, Runnable onClose) {}
+}
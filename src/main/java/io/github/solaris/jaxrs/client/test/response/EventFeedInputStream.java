@@ -0,0 +1,105 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * An {@link InputStream} that pulls the elements of an {@link EventFeed} and encodes them one at a time while it is read.
+ */
+final class EventFeedInputStream extends InputStream {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final EventFeed.Elements elements;
+    private final EventFormat format;
+    private final EntityConverter converter;
+    private final @Nullable Delay interval;
+    private final ClientRequestContext request;
+
+    private byte[] current = EMPTY;
+    private int position;
+    private boolean started;
+    private boolean closed;
+
+    EventFeedInputStream(EventFeed feed, EventFormat format, ClientRequestContext request) {
+        this.elements = feed.open();
+        this.format = format;
+        this.converter = EntityConverter.fromRequestContext(request);
+        this.interval = feed.getInterval();
+        this.request = request;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == current.length && !nextElement()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (position == current.length && !nextElement()) {
+            return -1;
+        }
+
+        int read = Math.min(length, current.length - position);
+        System.arraycopy(current, position, bytes, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            current = EMPTY;
+            position = 0;
+            elements.onClose().run();
+        }
+    }
+
+    private boolean nextElement() throws IOException {
+        if (closed) {
+            return false;
+        }
+
+        Iterator<?> iterator = elements.iterator();
+        try {
+            do {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                if (started && interval != null) {
+                    interval.await(request);
+                }
+                started = true;
+
+                Object element = iterator.next();
+                if (element == null) {
+                    throw new IOException("The EventFeed must not contain null elements.");
+                }
+                current = format.encode(element, converter);
+                position = 0;
+            } while (current.length == 0);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return true;
+    }
+}
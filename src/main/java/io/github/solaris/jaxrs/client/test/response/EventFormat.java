@@ -0,0 +1,74 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import io.github.solaris.jaxrs.client.test.internal.SerializingRequestContext;
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * How the elements of an {@link EventFeed} are written to the response body.
+ */
+enum EventFormat {
+    SERVER_SENT_EVENTS {
+        @Override
+        byte[] encode(Object element, EntityConverter converter) throws IOException {
+            StringBuilder event = new StringBuilder();
+            if (element instanceof ServerSentEvent sse) {
+                if (sse.getComment() != null) {
+                    appendLines(event, ":", sse.getComment());
+                }
+                if (sse.getId() != null) {
+                    event.append("id: ").append(sse.getId()).append('\n');
+                }
+                if (sse.getName() != null) {
+                    event.append("event: ").append(sse.getName()).append('\n');
+                }
+                Duration reconnectDelay = sse.getReconnectDelay();
+                if (reconnectDelay != null) {
+                    event.append("retry: ").append(reconnectDelay.toMillis()).append('\n');
+                }
+                MediaType mediaType = sse.getMediaType();
+                appendLines(event, "data:", serialize(sse.getData(), mediaType != null ? mediaType : MediaType.APPLICATION_JSON_TYPE, converter));
+            } else {
+                appendLines(event, "data:", serialize(element, MediaType.APPLICATION_JSON_TYPE, converter));
+            }
+            return event.append('\n').toString().getBytes(UTF_8);
+        }
+    },
+    NDJSON {
+        @Override
+        byte[] encode(Object element, EntityConverter converter) throws IOException {
+            String line = serialize(element, MediaType.APPLICATION_JSON_TYPE, converter).strip();
+            return (line + '\n').getBytes(UTF_8);
+        }
+    };
+
+    static final MediaType NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\r\n|\r|\n");
+
+    abstract byte[] encode(Object element, EntityConverter converter) throws IOException;
+
+    private static String serialize(Object element, MediaType mediaType, EntityConverter converter) throws IOException {
+        if (element instanceof String string) {
+            return string;
+        }
+        Response response = Response.ok(element, mediaType).build();
+        try (response) {
+            return new String(converter.convertEntity(new SerializingRequestContext(response), byte[].class), UTF_8);
+        }
+    }
+
+    private static void appendLines(StringBuilder event, String field, String value) {
+        for (String line : LINE_BREAK.split(value, -1)) {
+            event.append(field).append(' ').append(line).append('\n');
+        }
+    }
+}
@@ -2,6 +2,22 @@ package io.github.solaris.jaxrs.client.test.response;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.ClientRequestContext;
@@ -9,7 +25,10 @@ import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Response;
 
+import org.jspecify.annotations.Nullable;
+
 import io.github.solaris.jaxrs.client.test.internal.ClientCleaner;
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
 
 /**
  * A {@link ResponseCreator} that obtains the {@link Response} by calling an external REST service.
@@ -22,11 +41,24 @@ import io.github.solaris.jaxrs.client.test.internal.ClientCleaner;
  *  server.expect(requestTo("/hello")).andRespond(withSuccess());
  *  server.expect(requestTo("/goodbye")).andRespond(withServiceCall);
  * </code></pre>
+ * <p>
+ * Parallel tests can limit the amount of concurrent calls, time out slow calls or redirect the calls to a local stand-in
+ * through an {@code ExecutingResponseCreator} obtained from {@link #builder()}.
+ * It can also let concurrent identical requests share a single call to the service.
+ * </p>
  *
  * @see MockResponseCreators
  */
 public class ExecutingResponseCreator implements ResponseCreator {
+    private static final Options DEFAULT_OPTIONS = new Options(0, 0, List.of(), null);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
     private final Client client;
+    private final @Nullable Semaphore connections;
+    private final long timeoutNanos;
+    private final List<BaseUriRewrite> rewrites;
+    private final @Nullable SingleFlight singleFlight;
+    private final List<String> keyHeaders;
 
     /**
      * Create an instance with a {@link Client} obtained through {@link ClientBuilder#newClient()}.
@@ -34,7 +66,7 @@ public class ExecutingResponseCreator implements ResponseCreator {
      */
     @SuppressWarnings("this-escape")
     public ExecutingResponseCreator() {
-        this.client = ClientBuilder.newClient();
+        this(ClientBuilder.newClient(), DEFAULT_OPTIONS);
         ClientCleaner.register(this, client);
     }
 
@@ -43,18 +75,181 @@ public class ExecutingResponseCreator implements ResponseCreator {
      * The caller is responsible for closing the {@code Client}.
      */
     public ExecutingResponseCreator(Client client) {
-        validateNotNull(client, "'client' must not be null.");
+        this(validateClient(client), DEFAULT_OPTIONS);
+    }
+
+    ExecutingResponseCreator(Client client, Options options) {
         this.client = client;
+        this.connections = options.maxConnections() > 0 ? new Semaphore(options.maxConnections(), true) : null;
+        this.timeoutNanos = options.timeoutNanos();
+        this.rewrites = options.rewrites();
+        this.singleFlight = options.keyHeaders() != null ? new SingleFlight() : null;
+        this.keyHeaders = options.keyHeaders() != null ? options.keyHeaders() : List.of();
+    }
+
+    /**
+     * Create a builder for an {@code ExecutingResponseCreator} with a bounded amount of connections, a timeout or rewritten base URIs.
+     *
+     * <pre><code>
+     *  ResponseCreator withServiceCall = ExecutingResponseCreator.builder()
+     *      .maxConnections(8)
+     *      .timeout(Duration.ofSeconds(2))
+     *      .rewriteBaseUri(URI.create("https://api.example.com"), URI.create("http://localhost:8080"))
+     *      .build();
+     * </code></pre>
+     *
+     * @return The {@link ExecutingResponseCreatorBuilder}
+     */
+    public static ExecutingResponseCreatorBuilder builder() {
+        return new ExecutingResponseCreatorBuilder();
+    }
+
+    /**
+     * The amount of requests that waited for an identical concurrent request instead of calling the service.
+     * Always {@code 0} unless {@link ExecutingResponseCreatorBuilder#coalesceRequests(String...) enabled}.
+     */
+    public long getCoalescedCount() {
+        return singleFlight != null ? singleFlight.getCoalescedCount() : 0;
     }
 
     @Override
     public Response createResponse(ClientRequestContext request) {
-        Invocation.Builder invocationBuilder = client.target(request.getUri())
+        if (singleFlight == null || !IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            return execute(request);
+        }
+
+        try {
+            return singleFlight.execute(coalescingKey(request), () -> BufferedResponse.read(request, execute(request))).toResponse();
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    private Response execute(ClientRequestContext request) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        if (connections == null) {
+            return call(request, deadline);
+        }
+
+        acquireConnection(connections, deadline);
+        try {
+            // The connection stays in use until the entity has been read, so it's buffered before the connection is freed
+            Response response = call(request, deadline);
+            try {
+                response.bufferEntity();
+            } catch (RuntimeException e) {
+                response.close();
+                throw e;
+            }
+            return response;
+        } finally {
+            connections.release();
+        }
+    }
+
+    private Response call(ClientRequestContext request, long deadline) {
+        Invocation.Builder invocationBuilder = client.target(rewrite(request.getUri()))
                 .request()
                 .headers(request.getHeaders());
+        if (timeoutNanos > 0) {
+            return await(invoke(invocationBuilder.async(), request), deadline);
+        }
         if (request.hasEntity()) {
             return invocationBuilder.method(request.getMethod(), Entity.entity(request.getEntity(), request.getMediaType()));
         }
         return invocationBuilder.method(request.getMethod());
     }
+
+    /**
+     * The method, the URI, the values of the key headers and a hash of the serialized request body.
+     */
+    private String coalescingKey(ClientRequestContext request) throws IOException {
+        StringBuilder key = new StringBuilder(request.getMethod())
+                .append(' ')
+                .append(request.getUri());
+        for (String header : keyHeaders) {
+            key.append('\n').append(request.getHeaderString(header));
+        }
+        if (request.hasEntity()) {
+            byte[] body = EntityConverter.fromRequestContext(request).convertEntity(request, byte[].class);
+            key.append('\n').append(Base64.getEncoder().encodeToString(Digests.sha256(body)));
+        }
+        return key.toString();
+    }
+
+    private URI rewrite(URI uri) {
+        if (rewrites.isEmpty()) {
+            return uri;
+        }
+
+        String value = uri.toString();
+        for (BaseUriRewrite rewrite : rewrites) {
+            if (rewrite.matches(value)) {
+                return URI.create(rewrite.to() + value.substring(rewrite.from().length()));
+            }
+        }
+        return uri;
+    }
+
+    private void acquireConnection(Semaphore connections, long deadline) {
+        try {
+            if (timeoutNanos == 0) {
+                connections.acquire();
+            } else if (!connections.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new ProcessingException(new SocketTimeoutException("Timed out while waiting for a free connection."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(new InterruptedIOException("Interrupted while waiting for a free connection."));
+        }
+    }
+
+    private static Future<Response> invoke(AsyncInvoker invoker, ClientRequestContext request) {
+        if (request.hasEntity()) {
+            return invoker.method(request.getMethod(), Entity.entity(request.getEntity(), request.getMediaType()));
+        }
+        return invoker.method(request.getMethod());
+    }
+
+    private static Response await(Future<Response> response, long deadline) {
+        try {
+            return response.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+            throw new ProcessingException(new SocketTimeoutException("Timed out while waiting for the response."));
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(new InterruptedIOException("Interrupted while waiting for the response."));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProcessingException pe) {
+                throw pe;
+            }
+            throw new ProcessingException(e.getCause());
+        }
+    }
+
+    private static Client validateClient(Client client) {
+        validateNotNull(client, "'client' must not be null.");
+        return client;
+    }
+
+    /**
+     * @param keyHeaders The headers that distinguish otherwise identical requests, or {@code null} if requests are not coalesced
+     */
+    record Options(int maxConnections, long timeoutNanos, List<BaseUriRewrite> rewrites, @Nullable List<String> keyHeaders) {}
+
+    record BaseUriRewrite(String from, String to) {
+
+        boolean matches(String uri) {
+            if (!uri.startsWith(from)) {
+                return false;
+            }
+            if (uri.length() == from.length()) {
+                return true;
+            }
+            char next = uri.charAt(from.length());
+            return next == '/' || next == '?' || next == '#';
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.ClientCleaner;
+
+/**
+ * Builder to create an {@link ExecutingResponseCreator} with a bounded amount of connections, a timeout, rewritten base URIs
+ * or coalesced requests.
+ *
+ * @see ExecutingResponseCreator#builder()
+ */
+public final class ExecutingResponseCreatorBuilder {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private @Nullable Client client;
+    private int maxConnections;
+    private @Nullable Duration timeout;
+    private final List<ExecutingResponseCreator.BaseUriRewrite> rewrites = new ArrayList<>();
+    private @Nullable List<String> keyHeaders;
+
+    ExecutingResponseCreatorBuilder() {}
+
+    /**
+     * Call the service through a caller-supplied {@link Client} instead of one obtained through {@link ClientBuilder#newClient()}.
+     * The caller is responsible for closing the {@code Client}.
+     *
+     * @param client The client
+     */
+    public ExecutingResponseCreatorBuilder client(Client client) {
+        validateNotNull(client, "'client' must not be null.");
+        this.client = client;
+        return this;
+    }
+
+    /**
+     * <p>Limit the amount of concurrent calls to the service. Further calls wait until a call has completed.</p>
+     * <p>A call is completed once the response body has been received, so the responses are buffered.</p>
+     * <p>
+     * Unless a custom {@link Client} is used, the {@code Client} also executes its calls on a pool of at most {@code maxConnections} threads.
+     * </p>
+     *
+     * @param maxConnections The maximum amount of concurrent calls
+     */
+    public ExecutingResponseCreatorBuilder maxConnections(int maxConnections) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("'maxConnections' must be positive.");
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * <p>Fail calls to the service that take longer than the given timeout, including the time spent waiting for a free connection.</p>
+     * <p>
+     * The call is cancelled and a {@link jakarta.ws.rs.ProcessingException ProcessingException}
+     * caused by a {@link java.net.SocketTimeoutException SocketTimeoutException} is thrown, like a {@code Client} does on a read timeout.
+     * </p>
+     *
+     * @param timeout The timeout per request
+     */
+    public ExecutingResponseCreatorBuilder timeout(Duration timeout) {
+        validateNotNull(timeout, "'timeout' must not be null.");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("'timeout' must be positive.");
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * <p>Send requests whose URI starts with {@code from} to {@code to} instead, e.g. to a local stand-in of the service.</p>
+     * <p>
+     * The remainder of the path and the query are kept, so with
+     * {@code rewriteBaseUri(URI.create("https://api.example.com/v1"), URI.create("http://localhost:8080"))}
+     * a request to {@code https://api.example.com/v1/users?page=2} is sent to {@code http://localhost:8080/users?page=2}.
+     * If several base URIs match, the first one wins.
+     * </p>
+     *
+     * @param from The base URI used by the code under test
+     * @param to   The base URI to send the requests to instead
+     */
+    public ExecutingResponseCreatorBuilder rewriteBaseUri(URI from, URI to) {
+        validateNotNull(from, "'from' must not be null.");
+        validateNotNull(to, "'to' must not be null.");
+        rewrites.add(new ExecutingResponseCreator.BaseUriRewrite(stripTrailingSlash(from.toString()), stripTrailingSlash(to.toString())));
+        return this;
+    }
+
+    /**
+     * <p>Let concurrent identical requests share a single call to the service.</p>
+     * <p>
+     * Requests with an idempotent method ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT} and {@code DELETE}) are identical
+     * if they have the same method, URI, request body and values of the given headers, e.g. {@code Authorization} or {@code Accept}.
+     * A request that arrives while an identical request is calling the service waits for it and receives a copy of its response.
+     * The amount of such requests is available through {@link ExecutingResponseCreator#getCoalescedCount()},
+     * which also reveals code under test that issues redundant calls.
+     * </p>
+     *
+     * @param keyHeaders The names of the headers that distinguish otherwise identical requests
+     */
+    public ExecutingResponseCreatorBuilder coalesceRequests(String... keyHeaders) {
+        validateNotNull(keyHeaders, "'keyHeaders' must not be null.");
+        for (String keyHeader : keyHeaders) {
+            validateNotNull(keyHeader, "'keyHeaders' must not contain null.");
+        }
+        this.keyHeaders = List.copyOf(Arrays.asList(keyHeaders));
+        return this;
+    }
+
+    /**
+     * Build the {@link ExecutingResponseCreator}.
+     * A {@code Client} created by the builder is registered to a {@link java.lang.ref.Cleaner Cleaner} and closed once the
+     * {@code ExecutingResponseCreator} goes out of scope.
+     *
+     * @return The {@code ExecutingResponseCreator}
+     */
+    public ExecutingResponseCreator build() {
+        ExecutingResponseCreator.Options options = new ExecutingResponseCreator.Options(
+                maxConnections,
+                timeout != null ? timeout.toNanos() : 0,
+                List.copyOf(rewrites),
+                keyHeaders);
+
+        if (client != null) {
+            return new ExecutingResponseCreator(client, options);
+        }
+
+        Client newClient = newClient();
+        ExecutingResponseCreator responseCreator = new ExecutingResponseCreator(newClient, options);
+        ClientCleaner.register(responseCreator, newClient);
+        return responseCreator;
+    }
+
+    private Client newClient() {
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+        if (timeout != null) {
+            // Rounded up, since a timeout of 0 means no timeout at all
+            long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(timeout.toNanos() + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+            clientBuilder.connectTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .readTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        if (maxConnections > 0) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConnections, maxConnections, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "executing-response-creator-" + THREAD_COUNT.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // Idle threads terminate on their own, so the pool needs no shutdown once the Client is closed
+            executor.allowCoreThreadTimeOut(true);
+            clientBuilder.executorService(executor);
+        }
+        return clientBuilder.build();
+    }
+
+    private static String stripTrailingSlash(String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+}
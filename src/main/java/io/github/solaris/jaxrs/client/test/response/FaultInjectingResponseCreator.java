@@ -0,0 +1,253 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * <p>A {@link ResponseCreator} that injects faults into the responses of another {@code ResponseCreator}.</p>
+ * <p>
+ * Each fault is injected into a configurable fraction of the requests, at most one fault per request.
+ * Requests without a fault are answered by the wrapped {@code ResponseCreator}.
+ * Additionally, outages can be scheduled relative to the first request, during which all requests fail.
+ * When {@link #seed(long) seeded}, the n<sup>th</sup> request always receives the same fault, so a failing test run can be reproduced exactly.
+ * </p>
+ * <pre><code>
+ *  server.expect(ExpectedCount.min(1), requestTo("/orders"))
+ *      .andRespond(withFaults(withSuccess(order, APPLICATION_JSON_TYPE))
+ *          .timeouts(0.01)
+ *          .serverErrors(0.05, 503)
+ *          .truncatedBodies(0.01)
+ *          .outage(Duration.ofSeconds(30), Duration.ofSeconds(10))
+ *          .seed(42L));
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withFaults(ResponseCreator)
+ */
+public final class FaultInjectingResponseCreator implements ResponseCreator {
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final ResponseCreator responseCreator;
+
+    private final List<Fault> faults = new ArrayList<>();
+    private double[] thresholds = new double[0];
+    private final List<Outage> outages = new ArrayList<>();
+
+    private @Nullable Long seed;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong firstRequestNanos = new AtomicLong(UNSET);
+
+    FaultInjectingResponseCreator(ResponseCreator responseCreator) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        this.responseCreator = responseCreator;
+    }
+
+    /**
+     * Make the injected faults reproducible. Without a seed, faults are injected at random.
+     *
+     * @param seed The seed
+     */
+    public FaultInjectingResponseCreator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Fail the given fraction of requests with a {@link SocketTimeoutException}.
+     *
+     * @param rate The fraction of requests, between 0 and 1
+     */
+    public FaultInjectingResponseCreator timeouts(double rate) {
+        return exceptions(rate, () -> new SocketTimeoutException("Read timed out"));
+    }
+
+    /**
+     * Fail the given fraction of requests with a {@link SocketException} signaling a connection reset.
+     *
+     * @param rate The fraction of requests, between 0 and 1
+     */
+    public FaultInjectingResponseCreator connectionResets(double rate) {
+        return exceptions(rate, () -> new SocketException("Connection reset"));
+    }
+
+    /**
+     * Fail the given fraction of requests with an {@link IOException} obtained from the supplier.
+     *
+     * @param rate      The fraction of requests, between 0 and 1
+     * @param exception Supplies the {@code IOException} to throw
+     */
+    public FaultInjectingResponseCreator exceptions(double rate, Supplier<? extends IOException> exception) {
+        validateNotNull(exception, "'exception' must not be null.");
+        return addFault(rate, (request, random) -> {
+            throw exception.get();
+        });
+    }
+
+    /**
+     * Answer the given fraction of requests with a server error.
+     *
+     * @param rate       The fraction of requests, between 0 and 1
+     * @param statusCode The status code of the error, e.g. {@code 503}
+     */
+    public FaultInjectingResponseCreator serverErrors(double rate, int statusCode) {
+        if (statusCode < 500 || statusCode > 599) {
+            throw new IllegalArgumentException("'statusCode' must be a server error (5xx) but was " + statusCode);
+        }
+        MockResponseCreator error = MockResponseCreators.withStatus(statusCode);
+        return addFault(rate, (request, random) -> error.createResponse(request));
+    }
+
+    /**
+     * <p>Cut off the response body of the given fraction of requests after half of its bytes.</p>
+     * <p>
+     * The {@code Content-Length} header still announces the full body, just like a connection that is closed prematurely,
+     * so e.g. a JSON body can no longer be parsed. Responses without a body are not affected.
+     * </p>
+     *
+     * @param rate The fraction of requests, between 0 and 1
+     */
+    public FaultInjectingResponseCreator truncatedBodies(double rate) {
+        return addFault(rate, (request, random) -> truncate(request, responseCreator.createResponse(request)));
+    }
+
+    /**
+     * Delay the response of the given fraction of requests by a latency drawn from the given distribution.
+     *
+     * @param rate    The fraction of requests, between 0 and 1
+     * @param latency The additional latency until the response starts
+     */
+    public FaultInjectingResponseCreator slowFirstByte(double rate, Latency latency) {
+        validateNotNull(latency, "'latency' must not be null.");
+        return addFault(rate, (request, random) -> {
+            Timeline.fromRequestContext(request).await(latency.sampleNanos(random));
+            return responseCreator.createResponse(request);
+        });
+    }
+
+    /**
+     * Answer all requests within the given time window with status code 503
+     * ({@link jakarta.ws.rs.core.Response.Status#SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE}).
+     *
+     * @param start    The start of the outage, relative to the first request
+     * @param duration The duration of the outage
+     */
+    public FaultInjectingResponseCreator outage(Duration start, Duration duration) {
+        return outage(start, duration, MockResponseCreators.withServiceUnavailable());
+    }
+
+    /**
+     * Answer all requests within the given time window with the given {@code ResponseCreator},
+     * e.g. {@link MockResponseCreators#withException(IOException)}. Outages take precedence over all other faults.
+     *
+     * @param start           The start of the outage, relative to the first request
+     * @param duration        The duration of the outage
+     * @param responseCreator Creates the responses during the outage
+     */
+    public FaultInjectingResponseCreator outage(Duration start, Duration duration, ResponseCreator responseCreator) {
+        validateNotNull(start, "'start' must not be null.");
+        validateNotNull(duration, "'duration' must not be null.");
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        if (start.isNegative()) {
+            throw new IllegalArgumentException("'start' must not be negative.");
+        }
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'duration' must not be negative.");
+        }
+        long startNanos = start.toNanos();
+        outages.add(new Outage(startNanos, startNanos + duration.toNanos(), responseCreator));
+        return this;
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        long index = requestCount.getAndIncrement();
+
+        if (!outages.isEmpty()) {
+            long sinceFirstRequest = sinceFirstRequest(Timeline.fromRequestContext(request).nanoTime());
+            for (Outage outage : outages) {
+                if (sinceFirstRequest >= outage.startNanos() && sinceFirstRequest < outage.endNanos()) {
+                    return outage.responseCreator().createResponse(request);
+                }
+            }
+        }
+
+        if (thresholds.length > 0) {
+            long bits = seed != null ? SplitMix.valueAt(seed, index) : ThreadLocalRandom.current().nextLong();
+            double sample = (bits >>> 11) * 0x1.0p-53;
+            for (int i = 0; i < thresholds.length; i++) {
+                if (sample < thresholds[i]) {
+                    RandomGenerator random = seed != null ? new SplittableRandom(SplitMix.mix(bits)) : ThreadLocalRandom.current();
+                    return faults.get(i).inject(request, random);
+                }
+            }
+        }
+
+        return responseCreator.createResponse(request);
+    }
+
+    private FaultInjectingResponseCreator addFault(double rate, Fault fault) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("'rate' must be between 0 and 1 but was " + rate);
+        }
+
+        double total = thresholds.length > 0 ? thresholds[thresholds.length - 1] : 0;
+        if (total + rate > 1 + 1e-9) {
+            throw new IllegalArgumentException("The rates of all faults must not add up to more than 1.");
+        }
+
+        faults.add(fault);
+        thresholds = Arrays.copyOf(thresholds, thresholds.length + 1);
+        thresholds[thresholds.length - 1] = total + rate;
+        return this;
+    }
+
+    private long sinceFirstRequest(long now) {
+        long first = firstRequestNanos.get();
+        if (first == UNSET && firstRequestNanos.compareAndSet(UNSET, now)) {
+            return 0;
+        }
+        return now - firstRequestNanos.get();
+    }
+
+    private static Response truncate(ClientRequestContext request, Response response) throws IOException {
+        if (!response.hasEntity()) {
+            return response;
+        }
+
+        try (response) {
+            byte[] body = ResponseBodies.read(request, response);
+            return Response.fromResponse(response)
+                    .entity(new ByteArrayInputStream(body, 0, body.length / 2))
+                    .header(CONTENT_LENGTH, null)
+                    .header(CONTENT_LENGTH, body.length)
+                    .build();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Fault {
+        Response inject(ClientRequestContext request, RandomGenerator random) throws IOException;
+    }
+
+    private record Outage(long startNanos, long endNanos, ResponseCreator responseCreator) {}
+}
@@ -0,0 +1,102 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} of a fixed length whose bytes are computed from their position instead of being held in memory.
+ */
+abstract sealed class GeneratedInputStream extends InputStream {
+    private final long length;
+    private long position;
+
+    private GeneratedInputStream(long length) {
+        this.length = length;
+    }
+
+    /**
+     * Bytes that repeat the given pattern.
+     */
+    static GeneratedInputStream repeating(long length, byte[] pattern) {
+        return new Repeating(length, pattern);
+    }
+
+    /**
+     * Pseudo-random bytes that are always the same for the same seed.
+     */
+    static GeneratedInputStream seeded(long length, long seed) {
+        return new Seeded(length, seed);
+    }
+
+    abstract byte byteAt(long position);
+
+    @Override
+    public int read() {
+        if (position >= length) {
+            return -1;
+        }
+        return byteAt(position++) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        if (position >= length) {
+            return -1;
+        }
+
+        int read = (int) Math.min(count, length - position);
+        for (int i = 0; i < read; i++) {
+            bytes[offset + i] = byteAt(position++);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long count) {
+        long skipped = Math.max(0, Math.min(count, length - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    private static final class Repeating extends GeneratedInputStream {
+        private final byte[] pattern;
+
+        private Repeating(long length, byte[] pattern) {
+            super(length);
+            this.pattern = pattern;
+        }
+
+        @Override
+        byte byteAt(long position) {
+            return pattern[(int) (position % pattern.length)];
+        }
+    }
+
+    private static final class Seeded extends GeneratedInputStream {
+        private final long seed;
+        private long block = -1;
+        private long bits;
+
+        private Seeded(long length, long seed) {
+            super(length);
+            this.seed = seed;
+        }
+
+        @Override
+        byte byteAt(long position) {
+            long index = position >>> 3;
+            if (index != block) {
+                block = index;
+                bits = SplitMix.valueAt(seed, index);
+            }
+            return (byte) (bits >>> ((position & 7) << 3));
+        }
+    }
+}
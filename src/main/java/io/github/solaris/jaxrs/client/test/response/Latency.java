@@ -0,0 +1,112 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>A distribution of simulated response latencies.</p>
+ * <p>Built-in distributions can be obtained via the static factory methods of this interface.</p>
+ * <pre><code>
+ *  server.expect(requestTo("/slow"))
+ *      .andRespond(withSuccess().delay(Latency.logNormal(Duration.ofMillis(40), 0.5), 42L));
+ * </code></pre>
+ *
+ * @see MockResponseCreator#delay(Latency)
+ * @see MockResponseCreator#delay(Latency, long)
+ */
+@FunctionalInterface
+public interface Latency {
+
+    /**
+     * Draw the next latency from the distribution.
+     *
+     * @param random The source of randomness, seeded if the caller requires reproducible samples
+     * @return The latency in nanoseconds, values {@code <= 0} mean no delay
+     */
+    long sampleNanos(RandomGenerator random);
+
+    /**
+     * Always the same latency.
+     *
+     * @param delay The latency
+     */
+    static Latency fixed(Duration delay) {
+        return new Distributions.Fixed(toNanos(delay, "delay"));
+    }
+
+    /**
+     * Latency that is uniformly distributed between {@code min} and {@code max} (both inclusive).
+     *
+     * @param min The lower boundary
+     * @param max The upper boundary
+     */
+    static Latency uniform(Duration min, Duration max) {
+        long minNanos = toNanos(min, "min");
+        long maxNanos = toNanos(max, "max");
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("'max' must be >= 'min'");
+        }
+        return new Distributions.Uniform(minNanos, maxNanos);
+    }
+
+    /**
+     * Normally distributed latency. Negative samples are truncated to zero.
+     *
+     * @param mean              The mean latency
+     * @param standardDeviation The standard deviation
+     */
+    static Latency normal(Duration mean, Duration standardDeviation) {
+        return new Distributions.Normal(toNanos(mean, "mean"), toNanos(standardDeviation, "standardDeviation"));
+    }
+
+    /**
+     * <p>Log-normally distributed latency, the usual shape of network and service latencies with a long tail.</p>
+     * <p>Samples are calculated as {@code median * e^(sigma * Z)} where {@code Z} is standard normally distributed.</p>
+     *
+     * @param median The median latency
+     * @param sigma  The standard deviation of the underlying normal distribution, i.e. the width of the tail
+     */
+    static Latency logNormal(Duration median, double sigma) {
+        long medianNanos = toNanos(median, "median");
+        if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+            throw new IllegalArgumentException("'sigma' must be a finite number >= 0");
+        }
+        return new Distributions.LogNormal(medianNanos, sigma);
+    }
+
+    /**
+     * <p>Latency described by a percentile table, e.g. as reported by a monitoring system.</p>
+     * <p>
+     * Samples between two percentiles are linearly interpolated.
+     * Samples below the lowest percentile are interpolated from zero latency at the 0<sup>th</sup> percentile,
+     * samples above the highest percentile are capped at its latency.
+     * </p>
+     * <pre><code>
+     *  Latency.percentiles(Map.of(
+     *      50.0, Duration.ofMillis(20),
+     *      99.0, Duration.ofMillis(250),
+     *      99.9, Duration.ofSeconds(2)
+     *  ));
+     * </code></pre>
+     *
+     * @param percentiles The latency for each percentile, percentiles must be between 0 and 100 and latencies must not decrease
+     */
+    static Latency percentiles(Map<Double, Duration> percentiles) {
+        validateNotNull(percentiles, "'percentiles' must not be null.");
+        if (percentiles.isEmpty()) {
+            throw new IllegalArgumentException("'percentiles' must not be empty.");
+        }
+        return Distributions.PercentileTable.of(percentiles);
+    }
+
+    private static long toNanos(Duration duration, String name) {
+        validateNotNull(duration, "'" + name + "' must not be null.");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'" + name + "' must not be negative.");
+        }
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Latencies recorded from a real service, e.g. exported from an APM system, that can be replayed as a {@link Latency}.</p>
+ * <p>
+ * The trace is read once into primitive arrays, drawing a latency from it does not allocate.
+ * Each latency in a trace file consists of a number, optionally followed by a unit ({@code ns}, {@code us}, {@code ms} or {@code s}).
+ * Latencies without a unit are read as milliseconds.
+ * Blank lines and lines starting with {@code #} are ignored.
+ * </p>
+ * <pre><code>
+ *  LatencyTrace trace = LatencyTrace.fromHistogram(Path.of("src/test/resources/checkout-latency.csv"));
+ *
+ *  server.expect(ExpectedCount.min(1), requestTo("/checkout"))
+ *      .andRespond(withSuccess().delay(trace.weightedRandom(), 42L));
+ * </code></pre>
+ *
+ * @see MockResponseCreator#delay(Latency)
+ * @see MockResponseCreators#withDelay(ResponseCreator, Latency)
+ */
+public final class LatencyTrace {
+    private static final Pattern SEPARATOR = Pattern.compile("[,;\\s]+");
+    private static final Pattern DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ns|us|ms|s)?");
+
+    private final long[] nanos;
+    private final long[] cumulativeCounts;
+
+    private LatencyTrace(long[] nanos, long[] cumulativeCounts) {
+        this.nanos = nanos;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    /**
+     * Read a trace of individual request latencies, one latency per line.
+     *
+     * <pre>
+     * # checkout, 2026-01-05
+     * 12.4
+     * 9ms
+     * 1.2s
+     * </pre>
+     *
+     * @param file The trace file
+     * @return The trace
+     * @throws IOException If the file cannot be read
+     */
+    public static LatencyTrace fromDurations(Path file) throws IOException {
+        return read(file, false);
+    }
+
+    /**
+     * Read a latency histogram, one bucket per line.
+     * Each line consists of the latency of the bucket and the number of requests in it, separated by a comma, semicolon or whitespace.
+     *
+     * <pre>
+     * # latency, count
+     * 5ms, 1200
+     * 10ms, 340
+     * 250ms, 3
+     * </pre>
+     *
+     * @param file The histogram file
+     * @return The trace
+     * @throws IOException If the file cannot be read
+     */
+    public static LatencyTrace fromHistogram(Path file) throws IOException {
+        return read(file, true);
+    }
+
+    /**
+     * The number of requests contained in the trace.
+     */
+    public long size() {
+        return cumulativeCounts[cumulativeCounts.length - 1];
+    }
+
+    /**
+     * Replay the latencies in the order of the trace, starting over once the end is reached.
+     * The source of randomness is ignored.
+     * Histogram buckets are replayed in order, each as many times as it contains requests.
+     */
+    public Latency inSequence() {
+        AtomicLong position = new AtomicLong();
+        return random -> nanos[bucketOf(Math.floorMod(position.getAndIncrement(), size()))];
+    }
+
+    /**
+     * Draw random latencies from the trace, weighted by how often they occur in it.
+     */
+    public Latency weightedRandom() {
+        return random -> nanos[bucketOf(random.nextLong(size()))];
+    }
+
+    private int bucketOf(long request) {
+        int index = Arrays.binarySearch(cumulativeCounts, request + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static LatencyTrace read(Path file, boolean histogram) throws IOException {
+        validateNotNull(file, "'file' must not be null.");
+
+        long[] nanos = new long[64];
+        long[] cumulativeCounts = new long[64];
+        int size = 0;
+        long total = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                long count = 1;
+                String latency = line;
+                if (histogram) {
+                    String[] columns = SEPARATOR.split(line, 2);
+                    if (columns.length != 2) {
+                        throw invalidLine(file, lineNumber, line);
+                    }
+                    latency = columns[0];
+                    count = parseCount(columns[1], file, lineNumber, line);
+                }
+
+                if (count == 0) {
+                    continue;
+                }
+
+                if (size == nanos.length) {
+                    nanos = Arrays.copyOf(nanos, size * 2);
+                    cumulativeCounts = Arrays.copyOf(cumulativeCounts, size * 2);
+                }
+                total = Math.addExact(total, count);
+                nanos[size] = parseNanos(latency, file, lineNumber, line);
+                cumulativeCounts[size] = total;
+                size++;
+            }
+        }
+
+        if (size == 0) {
+            throw new IllegalArgumentException("Latency trace " + file + " contains no latencies.");
+        }
+        return new LatencyTrace(Arrays.copyOf(nanos, size), Arrays.copyOf(cumulativeCounts, size));
+    }
+
+    private static long parseNanos(String value, Path file, int lineNumber, String line) {
+        Matcher matcher = DURATION.matcher(value);
+        if (!matcher.matches()) {
+            throw invalidLine(file, lineNumber, line);
+        }
+
+        String unit = matcher.group(2);
+        long nanosPerUnit;
+        if (unit == null || unit.equals("ms")) {
+            nanosPerUnit = 1_000_000;
+        } else if (unit.equals("ns")) {
+            nanosPerUnit = 1;
+        } else if (unit.equals("us")) {
+            nanosPerUnit = 1_000;
+        } else {
+            nanosPerUnit = 1_000_000_000;
+        }
+
+        return new BigDecimal(matcher.group(1)).multiply(BigDecimal.valueOf(nanosPerUnit)).longValue();
+    }
+
+    private static long parseCount(String value, Path file, int lineNumber, String line) {
+        try {
+            long count = Long.parseLong(value.strip());
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException ignored) {
+            // Handled below
+        }
+        throw invalidLine(file, lineNumber, line);
+    }
+
+    private static IllegalArgumentException invalidLine(Path file, int lineNumber, String line) {
+        return new IllegalArgumentException("Invalid latency in " + file + " at line " + lineNumber + ": " + line);
+    }
+}
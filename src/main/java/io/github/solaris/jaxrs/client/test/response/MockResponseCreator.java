@@ -1,13 +1,19 @@
 package io.github.solaris.jaxrs.client.test.response;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.Link;
@@ -21,15 +27,27 @@ import jakarta.ws.rs.core.Variant;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.solaris.jaxrs.client.test.internal.SerializingRequestContext;
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
 import io.github.solaris.jaxrs.client.test.request.EntityConverter;
 
 /**
  * A {@link ResponseCreator} that creates a mock {@link Response} without calling an external service.
+ * <p>
+ * A {@code MockResponseCreator} that answers a large amount of requests, e.g. in a load test, can be {@link #freeze() frozen}
+ * once it is fully configured, so its entity is only serialized once instead of on every request.
+ * </p>
  */
 public class MockResponseCreator implements ResponseCreator {
     private final StatusType status;
 
     private @Nullable Object entity;
+    private @Nullable EntitySource entitySource;
+
+    private @Nullable Delay delay;
+    private @Nullable BodyThrottle bodyThrottle;
+
+    private volatile @Nullable Template template;
 
     private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
     private final List<NewCookie> cookies = new ArrayList<>();
@@ -45,14 +63,87 @@ public class MockResponseCreator implements ResponseCreator {
      * Set the response entity.
      */
     public MockResponseCreator entity(Object entity) {
+        validateNotFrozen();
         this.entity = entity;
+        this.entitySource = null;
         return this;
     }
 
+    /**
+     * <p>Stream the content of the given file as the response entity.</p>
+     * <p>
+     * Every response reads the file through a new {@link InputStream} without loading it into memory,
+     * so files of any size can be used to test downloads. The {@code Content-Length} header is set to the size of the file
+     * unless it was set explicitly.
+     * </p>
+     *
+     * @param file The file
+     */
+    public MockResponseCreator entityFromFile(Path file) {
+        validateNotFrozen();
+        validateNotNull(file, "'file' must not be null.");
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("'file' must be a regular file but was " + file);
+        }
+        return entitySource(new EntitySource() {
+            @Override
+            public long length() throws IOException {
+                return Files.size(file);
+            }
+
+            @Override
+            public InputStream open(ClientRequestContext request) throws IOException {
+                return Files.newInputStream(file);
+            }
+        });
+    }
+
+    /**
+     * <p>Stream {@code size} pseudo-random bytes as the response entity, which are the same for every response with the same seed.</p>
+     * <p>
+     * The bytes are computed while the response is read instead of being held in memory,
+     * so responses of any size can be used to test downloads. The {@code Content-Length} header is set to {@code size}
+     * unless it was set explicitly.
+     * </p>
+     *
+     * @param size The amount of bytes
+     * @param seed The seed of the bytes
+     * @see #entityGenerated(long, byte[])
+     */
+    public MockResponseCreator entityGenerated(long size, long seed) {
+        validateNotFrozen();
+        validateSize(size);
+        return entitySource(generated(size, () -> GeneratedInputStream.seeded(size, seed)));
+    }
+
+    /**
+     * <p>Stream {@code size} bytes that repeat the given pattern as the response entity.</p>
+     * <p>
+     * The bytes are computed while the response is read instead of being held in memory,
+     * so responses of any size can be used to test downloads. The {@code Content-Length} header is set to {@code size}
+     * unless it was set explicitly.
+     * </p>
+     *
+     * @param size    The amount of bytes
+     * @param pattern The bytes to repeat
+     * @see #entityGenerated(long, long)
+     */
+    public MockResponseCreator entityGenerated(long size, byte[] pattern) {
+        validateNotFrozen();
+        validateSize(size);
+        validateNotNull(pattern, "'pattern' must not be null.");
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("'pattern' must not be empty.");
+        }
+        byte[] copy = pattern.clone();
+        return entitySource(generated(size, () -> GeneratedInputStream.repeating(size, copy)));
+    }
+
     /**
      * Set the {@code Content-Type} header to the given {@link MediaType}
      */
     public MockResponseCreator mediaType(MediaType mediaType) {
+        validateNotFrozen();
         validateNotNull(mediaType, "'mediaType' must not be null.");
         headers.putSingle(CONTENT_TYPE, mediaType);
         return this;
@@ -62,6 +153,7 @@ public class MockResponseCreator implements ResponseCreator {
      * Add a Header with one or more values to the response.
      */
     public MockResponseCreator header(String name, Object... values) {
+        validateNotFrozen();
         validateNotNull(name, "'name' must not be null.");
         validateNotNull(values, "'values' must not be null.");
         for (Object value : values) {
@@ -74,6 +166,7 @@ public class MockResponseCreator implements ResponseCreator {
      * Add one or more {@link NewCookie NewCookies} to the response.
      */
     public MockResponseCreator cookies(NewCookie... cookies) {
+        validateNotFrozen();
         validateNotNull(cookies, "'cookies' must not be null.");
         this.cookies.addAll(Arrays.asList(cookies));
         return this;
@@ -83,6 +176,7 @@ public class MockResponseCreator implements ResponseCreator {
      * Add one or more {@link Link Links} to the response.
      */
     public MockResponseCreator links(Link... links) {
+        validateNotFrozen();
         validateNotNull(links, "'links' must not be null.");
         this.links.addAll(Arrays.asList(links));
         return this;
@@ -92,13 +186,102 @@ public class MockResponseCreator implements ResponseCreator {
      * Add one or more {@link Variant Variants} to the response.
      */
     public MockResponseCreator variants(Variant... variants) {
+        validateNotFrozen();
         validateNotNull(variants, "'variants' must not be null.");
         this.variants.addAll(Arrays.asList(variants));
         return this;
     }
 
+    /**
+     * Delay the response by a fixed amount of time.
+     *
+     * @param delay The delay
+     * @see #delay(Latency)
+     */
+    public MockResponseCreator delay(Duration delay) {
+        return delay(Latency.fixed(delay));
+    }
+
+    /**
+     * <p>Delay each response by a latency drawn from the given distribution.</p>
+     * <p>
+     * The requesting thread sleeps until its delay elapsed, so the delays of concurrent requests overlap.
+     * Since the response must be returned to the client synchronously, the delay is deliberately not handed to a scheduler,
+     * which would leave the requesting thread blocked all the same.
+     * If the {@code MockRestServer} uses a {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock},
+     * the delay only elapses once the clock is advanced.
+     * </p>
+     *
+     * @param latency The latency distribution
+     * @see #delay(Latency, long)
+     */
+    public MockResponseCreator delay(Latency latency) {
+        validateNotFrozen();
+        validateNotNull(latency, "'latency' must not be null.");
+        this.delay = Delay.unseeded(latency);
+        return this;
+    }
+
+    /**
+     * Delay each response by a latency drawn from the given distribution using a seeded source of randomness,
+     * making the sequence of latencies reproducible.
+     *
+     * @param latency The latency distribution
+     * @param seed    The seed of the source of randomness
+     * @see #delay(Latency)
+     */
+    public MockResponseCreator delay(Latency latency, long seed) {
+        validateNotFrozen();
+        validateNotNull(latency, "'latency' must not be null.");
+        this.delay = Delay.seeded(latency, seed);
+        return this;
+    }
+
+    /**
+     * <p>Transfer the response body at the pace of the given {@link BodyThrottle}, e.g. to simulate a slow or stalling upstream.</p>
+     * <p>
+     * The entity is serialized when the response is created and handed to the client chunk by chunk while it is read.
+     * </p>
+     *
+     * @param throttle The pace of the transfer
+     */
+    public MockResponseCreator throttleBody(BodyThrottle throttle) {
+        validateNotFrozen();
+        validateNotNull(throttle, "'throttle' must not be null.");
+        this.bodyThrottle = throttle;
+        return this;
+    }
+
+    /**
+     * <p>Prevent further modifications and prepare the parts of the response that are the same for every request.</p>
+     * <p>
+     * If the {@code Content-Type} is set, the entity is serialized on the first request
+     * and every further response only wraps the serialized bytes in a new stream.
+     * The headers, cookies and links are still copied into every response, since each {@link Response} holds its own copy of them.
+     * Entities that are an {@link InputStream} are never serialized in advance, since they can only be read once anyway.
+     * </p>
+     * <p>Modifying the {@code MockResponseCreator} afterward throws an {@link IllegalStateException}.</p>
+     *
+     * @return This {@code MockResponseCreator}
+     */
+    public MockResponseCreator freeze() {
+        if (template == null) {
+            template = new Template();
+        }
+        return this;
+    }
+
     @Override
     public Response createResponse(ClientRequestContext request) throws IOException {
+        if (delay != null) {
+            delay.await(request);
+        }
+
+        Template frozen = template;
+        if (frozen != null) {
+            return frozen.createResponse(request);
+        }
+
         Response.ResponseBuilder responseBuilder = Response.status(status)
                 .entity(entity)
                 .replaceAll(headers)
@@ -110,8 +293,85 @@ public class MockResponseCreator implements ResponseCreator {
             responseBuilder.variants(variants);
         }
 
-        Response response = responseBuilder.build();
+        if (entitySource != null) {
+            return stream(request, responseBuilder, entitySource);
+        }
+        if (bodyThrottle != null && entity != null) {
+            return throttleEntity(request, responseBuilder.build());
+        }
+        return serializeForCxf(request, responseBuilder.build());
+    }
+
+    MockResponseCreator entityFeed(EventFeed feed, EventFormat format) {
+        validateNotNull(feed, "'feed' must not be null.");
+        return entitySource(new EntitySource() {
+            @Override
+            public long length() {
+                return -1;
+            }
 
+            @Override
+            public InputStream open(ClientRequestContext request) {
+                return new EventFeedInputStream(feed, format, request);
+            }
+        });
+    }
+
+    private MockResponseCreator entitySource(EntitySource entitySource) {
+        this.entity = null;
+        this.entitySource = entitySource;
+        return this;
+    }
+
+    /**
+     * Streams are passed to all implementations as they are, since serializing them for CXF would read them into memory.
+     */
+    private Response stream(ClientRequestContext request, Response.ResponseBuilder responseBuilder, EntitySource entitySource) throws IOException {
+        if (headers.getFirst(CONTENT_LENGTH) == null) {
+            long length = entitySource.length();
+            if (length >= 0) {
+                responseBuilder.header(CONTENT_LENGTH, length);
+            }
+        }
+        return responseBuilder.entity(throttle(request, entitySource.open(request))).build();
+    }
+
+    private Response throttleEntity(ClientRequestContext request, Response response) throws IOException {
+        InputStream body = entity instanceof InputStream stream
+                ? stream
+                : EntityConverter.fromRequestContext(request).convertEntity(new SerializingRequestContext(response), InputStream.class);
+        try (response) {
+            return Response.fromResponse(response)
+                    .entity(throttle(request, body))
+                    .build();
+        }
+    }
+
+    private InputStream throttle(ClientRequestContext request, InputStream body) {
+        return bodyThrottle != null ? bodyThrottle.throttle(body, Timeline.fromRequestContext(request)) : body;
+    }
+
+    private static void validateSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("'size' must not be negative.");
+        }
+    }
+
+    private static EntitySource generated(long size, Supplier<InputStream> stream) {
+        return new EntitySource() {
+            @Override
+            public long length() {
+                return size;
+            }
+
+            @Override
+            public InputStream open(ClientRequestContext request) {
+                return stream.get();
+            }
+        };
+    }
+
+    private Response serializeForCxf(ClientRequestContext request, Response response) throws IOException {
         // CXF does not serialize the entity when aborting a request,
         // breaking Response::readEntity for everything except Strings and Numbers.
         // Checking directly for a specific implementation is ugly,
@@ -128,4 +388,76 @@ public class MockResponseCreator implements ResponseCreator {
 
         return response;
     }
+
+    private void validateNotFrozen() {
+        if (template != null) {
+            throw new IllegalStateException("The MockResponseCreator is frozen and can no longer be modified.");
+        }
+    }
+
+    /**
+     * Opens a new stream of the response entity for every response.
+     */
+    private interface EntitySource {
+
+        /**
+         * The length of the entity in bytes or {@code -1} if it is unknown.
+         */
+        long length() throws IOException;
+
+        InputStream open(ClientRequestContext request) throws IOException;
+    }
+
+    /**
+     * The parts of the response of a frozen {@code MockResponseCreator}.
+     */
+    private final class Template {
+        private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>(MockResponseCreator.this.headers);
+        private final Link[] links = MockResponseCreator.this.links.toArray(new Link[0]);
+        private final NewCookie[] cookies = MockResponseCreator.this.cookies.toArray(new NewCookie[0]);
+        private final boolean serializable = entity != null && !(entity instanceof InputStream) && headers.getFirst(CONTENT_TYPE) != null;
+
+        private volatile byte @Nullable [] serializedEntity;
+
+        Response createResponse(ClientRequestContext request) throws IOException {
+            if (entitySource != null) {
+                return stream(request, builder(), entitySource);
+            }
+            if (serializable) {
+                return builder()
+                        .entity(throttle(request, new ByteArrayInputStream(serializedEntity(request))))
+                        .build();
+            }
+            if (bodyThrottle != null && entity != null) {
+                return throttleEntity(request, builder().entity(entity).build());
+            }
+            return serializeForCxf(request, builder().entity(entity).build());
+        }
+
+        private byte[] serializedEntity(ClientRequestContext request) throws IOException {
+            byte[] serialized = serializedEntity;
+            if (serialized == null) {
+                // Concurrent first requests may serialize the entity more than once, which is harmless
+                Response response = builder().entity(entity).build();
+                try (response) {
+                    serialized = EntityConverter.fromRequestContext(request).convertEntity(new SerializingRequestContext(response), byte[].class);
+                }
+                serializedEntity = serialized;
+            }
+            return serialized;
+        }
+
+        private Response.ResponseBuilder builder() {
+            Response.ResponseBuilder responseBuilder = Response.status(status)
+                    .replaceAll(headers)
+                    .links(links)
+                    .cookie(cookies);
+
+            // RestEasy Reactive throws an NPE when passed an empty list of Variants
+            if (!variants.isEmpty()) {
+                responseBuilder.variants(variants);
+            }
+            return responseBuilder;
+        }
+    }
 }
@@ -19,7 +19,9 @@ import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.LongFunction;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response.Status;
@@ -53,6 +55,74 @@ public final class MockResponseCreators {
                 .mediaType(mediaType);
     }
 
+    /**
+     * <p>{@code ResponseCreator} for status code 200 ({@link Status#OK OK}) and a {@code text/event-stream} body.</p>
+     * <p>
+     * Every element of the feed is sent as one event, which is serialized only when the client reads it.
+     * Elements that are no {@link ServerSentEvent} are sent as the data of an unnamed event.
+     * {@code Strings} are sent as they are, other objects are serialized as JSON.
+     * </p>
+     *
+     * @param events The events
+     * @see EventFeed
+     */
+    public static MockResponseCreator withServerSentEvents(EventFeed events) {
+        return new MockResponseCreator(OK)
+                .mediaType(MediaType.SERVER_SENT_EVENTS_TYPE)
+                .entityFeed(events, EventFormat.SERVER_SENT_EVENTS);
+    }
+
+    /**
+     * <p>{@code ResponseCreator} for status code 200 ({@link Status#OK OK}) and an {@code application/x-ndjson} body.</p>
+     * <p>
+     * Every element of the feed is sent as one line, which is serialized only when the client reads it.
+     * {@code Strings} are expected to already contain JSON and are sent as they are, other objects are serialized as JSON.
+     * </p>
+     *
+     * @param items The items
+     * @see EventFeed
+     */
+    public static MockResponseCreator withNdjson(EventFeed items) {
+        return new MockResponseCreator(OK)
+                .mediaType(EventFormat.NDJSON_TYPE)
+                .entityFeed(items, EventFormat.NDJSON);
+    }
+
+    /**
+     * {@code ResponseCreator} that answers every request with the requested page of a list of {@code totalCount} records.
+     * The records are computed by the given function from their index, only for the requested page.
+     *
+     * @param totalCount The amount of records
+     * @param records    Computes the record at the given index, starting at 0
+     * @see PagingResponseCreator
+     */
+    public static PagingResponseCreator withPages(long totalCount, LongFunction<?> records) {
+        return new PagingResponseCreator(totalCount, records);
+    }
+
+    /**
+     * {@code ResponseCreator} that answers every request with the requested page of the given records.
+     *
+     * @param records The records
+     * @see PagingResponseCreator
+     */
+    public static PagingResponseCreator withPages(List<?> records) {
+        validateNotNull(records, "'records' must not be null.");
+        return new PagingResponseCreator(records.size(), index -> records.get(Math.toIntExact(index)));
+    }
+
+    /**
+     * {@code ResponseCreator} that emulates a REST collection of resources at the given path, kept in memory.
+     *
+     * @param path The path of the collection, e.g. {@code /users}
+     * @param type The type the resources are converted to
+     * @param <T>  The type of the resources
+     * @see ResourceCollection
+     */
+    public static <T> ResourceCollection<T> withResources(String path, Class<T> type) {
+        return new ResourceCollection<>(path, type);
+    }
+
     /**
      * {@code ResponseCreator} for status code 201 ({@link Status#CREATED CREATED}) with a {@code Location} header.
      *
@@ -177,6 +247,113 @@ public final class MockResponseCreators {
         };
     }
 
+    /**
+     * {@code ResponseCreator} that delays the response of another {@code ResponseCreator},
+     * e.g. an {@link ExecutingResponseCreator}, by a latency drawn from the given distribution.
+     *
+     * @param responseCreator The {@code ResponseCreator} to delay
+     * @param latency         The latency distribution
+     * @see MockResponseCreator#delay(Latency)
+     */
+    public static ResponseCreator withDelay(ResponseCreator responseCreator, Latency latency) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(latency, "'latency' must not be null.");
+        return delayed(responseCreator, Delay.unseeded(latency));
+    }
+
+    /**
+     * {@code ResponseCreator} that delays the response of another {@code ResponseCreator},
+     * e.g. an {@link ExecutingResponseCreator}, by a latency drawn from the given distribution using a seeded source of randomness.
+     *
+     * @param responseCreator The {@code ResponseCreator} to delay
+     * @param latency         The latency distribution
+     * @param seed            The seed of the source of randomness
+     * @see MockResponseCreator#delay(Latency, long)
+     */
+    public static ResponseCreator withDelay(ResponseCreator responseCreator, Latency latency, long seed) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(latency, "'latency' must not be null.");
+        return delayed(responseCreator, Delay.seeded(latency, seed));
+    }
+
+    /**
+     * {@code ResponseCreator} that answers with status code 429 ({@link Status#TOO_MANY_REQUESTS TOO_MANY_REQUESTS})
+     * and a {@code Retry-After} header once the given {@link RateLimit} is exhausted and delegates to another {@code ResponseCreator} otherwise.
+     * <p>Throttled requests are marked in the failure message of {@link io.github.solaris.jaxrs.client.test.server.MockRestServer#verify()
+     * MockRestServer.verify()}.</p>
+     *
+     * @param responseCreator The {@code ResponseCreator} to rate limit
+     * @param rateLimit       The rate limit, may be shared with other {@code ResponseCreators}
+     */
+    public static ResponseCreator withRateLimit(ResponseCreator responseCreator, RateLimit rateLimit) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(rateLimit, "'rateLimit' must not be null.");
+        return request -> rateLimit.createResponse(request, responseCreator);
+    }
+
+    /**
+     * {@code ResponseCreator} that only lets as many requests through to another {@code ResponseCreator} at once as the given {@link Bulkhead} allows.
+     * Excess requests wait for a free slot or are rejected if the queue of the {@code Bulkhead} is full.
+     *
+     * @param responseCreator The {@code ResponseCreator} to limit
+     * @param bulkhead        The concurrency limit, may be shared with other {@code ResponseCreators}
+     */
+    public static ResponseCreator withBulkhead(ResponseCreator responseCreator, Bulkhead bulkhead) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(bulkhead, "'bulkhead' must not be null.");
+        return request -> bulkhead.createResponse(request, responseCreator);
+    }
+
+    /**
+     * {@code ResponseCreator} that answers {@code GET} requests from the given {@link ResponseCache} while the cached response is fresh
+     * and calls another {@code ResponseCreator}, usually an {@link ExecutingResponseCreator}, otherwise.
+     *
+     * @param responseCreator The {@code ResponseCreator} to cache the responses of
+     * @param cache           The cache, may be shared with other {@code ResponseCreators}
+     */
+    public static ResponseCreator withCache(ResponseCreator responseCreator, ResponseCache cache) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(cache, "'cache' must not be null.");
+        return request -> cache.createResponse(request, responseCreator);
+    }
+
+    /**
+     * {@code ResponseCreator} that injects faults like timeouts, server errors or outages into the responses of another {@code ResponseCreator}.
+     *
+     * @param responseCreator The {@code ResponseCreator} that answers the requests without faults
+     * @see FaultInjectingResponseCreator
+     */
+    public static FaultInjectingResponseCreator withFaults(ResponseCreator responseCreator) {
+        return new FaultInjectingResponseCreator(responseCreator);
+    }
+
+    /**
+     * {@code ResponseCreator} that answers each request with the next of the given {@code ResponseCreators}
+     * and keeps answering with the last one once all others were used, e.g. to let a request succeed after two failures.
+     *
+     * @param responseCreators The {@code ResponseCreators} in the order they answer
+     * @see Scenario
+     */
+    public static ScenarioResponseCreator withSequence(ResponseCreator... responseCreators) {
+        validateNotNull(responseCreators, "'responseCreators' must not be null.");
+        if (responseCreators.length == 0) {
+            throw new IllegalArgumentException("'responseCreators' must not be empty.");
+        }
+
+        ScenarioResponseCreator sequence = Scenario.named("sequence", "0").respond();
+        for (int i = 0; i < responseCreators.length - 1; i++) {
+            sequence.inState(String.valueOf(i), responseCreators[i], String.valueOf(i + 1));
+        }
+        return sequence.inState(String.valueOf(responseCreators.length - 1), responseCreators[responseCreators.length - 1]);
+    }
+
+    private static ResponseCreator delayed(ResponseCreator responseCreator, Delay delay) {
+        return request -> {
+            delay.await(request);
+            return responseCreator.createResponse(request);
+        };
+    }
+
     private record CustomStatus(int statusCode) implements StatusType {
 
         @Override
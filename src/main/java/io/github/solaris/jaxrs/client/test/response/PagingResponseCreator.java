@@ -0,0 +1,300 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+
+/**
+ * <p>A {@link ResponseCreator} that answers every request with one page of a large, lazily evaluated list of records.</p>
+ * <p>
+ * The requested page is read from the query parameters of the request. Only the records of that page are computed and serialized,
+ * so a single expectation can serve a client that pages through millions of records. Every response carries a {@code Link} header
+ * with the {@code first}, {@code prev}, {@code next} and {@code last} pages as well as the total amount of records
+ * in the {@code X-Total-Count} header. A page that is not a positive number or a cursor that was not issued by this
+ * {@code ResponseCreator} is answered with status code 400 ({@link Response.Status#BAD_REQUEST BAD_REQUEST}).
+ * </p>
+ * <p>Three styles of pagination are supported:</p>
+ * <ul>
+ *     <li>Page numbers, starting at 1 (the default): {@code ?page=3&size=50}</li>
+ *     <li>Offsets: {@code ?offset=100&limit=50}</li>
+ *     <li>Opaque cursors, which are additionally returned in the {@code X-Next-Cursor} header: {@code ?cursor=b2Zmc2V0OjEwMA&limit=50}</li>
+ * </ul>
+ * <pre><code>
+ *  server.expect(ExpectedCount.min(1), method(HttpMethod.GET))
+ *      .andRespond(withPages(2_000_000, i -&gt; new User(i, "user-" + i))
+ *          .offsets("offset", "limit")
+ *          .defaultPageSize(100));
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withPages(long, LongFunction)
+ * @see MockResponseCreators#withPages(List)
+ */
+public final class PagingResponseCreator implements ResponseCreator {
+    private static final String TOTAL_COUNT = "X-Total-Count";
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
+    private static final String CURSOR_PREFIX = "offset:";
+
+    private final long totalCount;
+    private final LongFunction<?> records;
+
+    private Style style = Style.PAGE_NUMBERS;
+    private String pageParam = "page";
+    private String sizeParam = "size";
+    private int defaultPageSize = 20;
+    private int maxPageSize = 1000;
+    private MediaType mediaType = MediaType.APPLICATION_JSON_TYPE;
+
+    PagingResponseCreator(long totalCount, LongFunction<?> records) {
+        validateNotNull(records, "'records' must not be null.");
+        if (totalCount < 0) {
+            throw new IllegalArgumentException("'totalCount' must not be negative.");
+        }
+        this.totalCount = totalCount;
+        this.records = records;
+    }
+
+    /**
+     * Select the page by its number, starting at 1. This is the default, using the query parameters {@code page} and {@code size}.
+     *
+     * @param pageParam The name of the query parameter that holds the page number
+     * @param sizeParam The name of the query parameter that holds the page size
+     */
+    public PagingResponseCreator pageNumbers(String pageParam, String sizeParam) {
+        return style(Style.PAGE_NUMBERS, pageParam, sizeParam);
+    }
+
+    /**
+     * Select the page by the offset of its first record, starting at 0.
+     *
+     * @param offsetParam The name of the query parameter that holds the offset
+     * @param limitParam  The name of the query parameter that holds the page size
+     */
+    public PagingResponseCreator offsets(String offsetParam, String limitParam) {
+        return style(Style.OFFSETS, offsetParam, limitParam);
+    }
+
+    /**
+     * Select the page by an opaque cursor that was returned with the previous page. The first page is requested without a cursor.
+     *
+     * @param cursorParam The name of the query parameter that holds the cursor
+     * @param limitParam  The name of the query parameter that holds the page size
+     */
+    public PagingResponseCreator cursors(String cursorParam, String limitParam) {
+        return style(Style.CURSORS, cursorParam, limitParam);
+    }
+
+    /**
+     * The size of a page if the request does not specify one. Defaults to 20.
+     *
+     * @param defaultPageSize The default page size
+     */
+    public PagingResponseCreator defaultPageSize(int defaultPageSize) {
+        if (defaultPageSize <= 0) {
+            throw new IllegalArgumentException("'defaultPageSize' must be positive.");
+        }
+        this.defaultPageSize = defaultPageSize;
+        return this;
+    }
+
+    /**
+     * The maximum size of a page, larger page sizes requested by the client are reduced to it. Defaults to 1000.
+     *
+     * @param maxPageSize The maximum page size
+     */
+    public PagingResponseCreator maxPageSize(int maxPageSize) {
+        if (maxPageSize <= 0) {
+            throw new IllegalArgumentException("'maxPageSize' must be positive.");
+        }
+        this.maxPageSize = maxPageSize;
+        return this;
+    }
+
+    /**
+     * The {@code Content-Type} of the page. Defaults to {@code application/json}.
+     *
+     * @param mediaType The media type
+     */
+    public PagingResponseCreator mediaType(MediaType mediaType) {
+        validateNotNull(mediaType, "'mediaType' must not be null.");
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        List<String> position = queryParams(request.getUri(), pageParam);
+        List<String> size = queryParams(request.getUri(), sizeParam);
+
+        int pageSize;
+        long offset;
+        try {
+            pageSize = size.isEmpty() ? defaultPageSize : Math.min(Math.toIntExact(Long.parseLong(size.get(0))), maxPageSize);
+            offset = position.isEmpty() ? 0 : style.toOffset(position.get(0), pageSize);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return badRequest(request, "Invalid page: " + e.getMessage());
+        }
+        if (pageSize <= 0 || offset < 0) {
+            return badRequest(request, "Invalid page: " + sizeParam + "=" + pageSize + ", offset=" + offset);
+        }
+
+        long end = offset >= totalCount ? totalCount : Math.min(offset + pageSize, totalCount);
+        List<Object> page = LongStream.range(Math.min(offset, totalCount), end)
+                .<Object>mapToObj(records::apply)
+                .toList();
+
+        MockResponseCreator responseCreator = new MockResponseCreator(OK)
+                .entity(new GenericEntity<List<Object>>(page) {})
+                .mediaType(mediaType)
+                .header(TOTAL_COUNT, totalCount)
+                .links(links(request.getUri(), offset, pageSize));
+        if (style == Style.CURSORS && end < totalCount) {
+            responseCreator.header(NEXT_CURSOR, style.toPosition(end, pageSize));
+        }
+        return responseCreator.createResponse(request);
+    }
+
+    private PagingResponseCreator style(Style style, String pageParam, String sizeParam) {
+        validateNotNull(pageParam, "'" + style.pageParamName + "' must not be null.");
+        validateNotNull(sizeParam, "'" + style.sizeParamName + "' must not be null.");
+        this.style = style;
+        this.pageParam = pageParam;
+        this.sizeParam = sizeParam;
+        return this;
+    }
+
+    private Link[] links(URI uri, long offset, int pageSize) {
+        List<Link> links = new ArrayList<>();
+        long lastOffset = totalCount == 0 ? 0 : (totalCount - 1) / pageSize * pageSize;
+        links.add(link(uri, 0, pageSize, "first"));
+        if (offset > 0) {
+            links.add(link(uri, Math.max(Math.min(offset, lastOffset + pageSize) - pageSize, 0), pageSize, "prev"));
+        }
+        if (offset < totalCount - pageSize) {
+            links.add(link(uri, offset + pageSize, pageSize, "next"));
+        }
+        if (style != Style.CURSORS) {
+            links.add(link(uri, lastOffset, pageSize, "last"));
+        }
+        return links.toArray(new Link[0]);
+    }
+
+    private Link link(URI uri, long offset, int pageSize, String rel) {
+        // Other query parameters keep their order, the paging parameters are always appended in the same order
+        StringJoiner query = new StringJoiner("&");
+        if (uri.getRawQuery() != null && !uri.getRawQuery().isEmpty()) {
+            for (String param : uri.getRawQuery().split("&")) {
+                String name = URLDecoder.decode(param.split("=", 2)[0], UTF_8);
+                if (!name.equals(pageParam) && !name.equals(sizeParam)) {
+                    query.add(param);
+                }
+            }
+        }
+        if (style != Style.CURSORS || offset > 0) {
+            query.add(encode(pageParam) + "=" + encode(style.toPosition(offset, pageSize)));
+        }
+        query.add(encode(sizeParam) + "=" + pageSize);
+        return Link.fromUri(UriBuilder.fromUri(uri).replaceQuery(query.toString()).build()).rel(rel).build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, UTF_8);
+    }
+
+    private static Response badRequest(ClientRequestContext request, String message) throws IOException {
+        return new MockResponseCreator(BAD_REQUEST)
+                .entity(message)
+                .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                .createResponse(request);
+    }
+
+    private static List<String> queryParams(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> values = new ArrayList<>();
+        for (String param : query.split("&")) {
+            String[] nameAndValue = param.split("=", 2);
+            if (URLDecoder.decode(nameAndValue[0], UTF_8).equals(name)) {
+                values.add(nameAndValue.length == 2 ? URLDecoder.decode(nameAndValue[1], UTF_8) : "");
+            }
+        }
+        return values;
+    }
+
+    private enum Style {
+        PAGE_NUMBERS("pageParam", "sizeParam") {
+            @Override
+            long toOffset(String position, int pageSize) {
+                long page = Long.parseLong(position);
+                if (page < 1) {
+                    throw new IllegalArgumentException("page " + page + " is not positive");
+                }
+                return Math.multiplyExact(page - 1, pageSize);
+            }
+
+            @Override
+            String toPosition(long offset, int pageSize) {
+                return String.valueOf(offset / pageSize + 1);
+            }
+        },
+        OFFSETS("offsetParam", "limitParam") {
+            @Override
+            long toOffset(String position, int pageSize) {
+                return Long.parseLong(position);
+            }
+
+            @Override
+            String toPosition(long offset, int pageSize) {
+                return String.valueOf(offset);
+            }
+        },
+        CURSORS("cursorParam", "limitParam") {
+            @Override
+            long toOffset(String position, int pageSize) {
+                String decoded = new String(Base64.getUrlDecoder().decode(position), UTF_8);
+                if (!decoded.startsWith(CURSOR_PREFIX)) {
+                    throw new IllegalArgumentException("unknown cursor " + position);
+                }
+                return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+            }
+
+            @Override
+            String toPosition(long offset, int pageSize) {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + offset).getBytes(UTF_8));
+            }
+        };
+
+        private final String pageParamName;
+        private final String sizeParamName;
+
+        Style(String pageParamName, String sizeParamName) {
+            this.pageParamName = pageParamName;
+            this.sizeParamName = sizeParamName;
+        }
+
+        abstract long toOffset(String position, int pageSize);
+
+        abstract String toPosition(long offset, int pageSize);
+    }
+}
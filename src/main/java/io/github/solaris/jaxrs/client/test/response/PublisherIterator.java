@@ -0,0 +1,107 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bridges a {@link Flow.Publisher} to a blocking {@link Iterator}, requesting new elements only as the previous ones are consumed.
+ * Errors signaled by the publisher are thrown as an {@link UncheckedIOException}.
+ */
+final class PublisherIterator<T> implements Iterator<T>, Flow.Subscriber<T> {
+    private static final int BATCH_SIZE = 16;
+    private static final Object COMPLETE = new Object();
+
+    // Never holds more than BATCH_SIZE elements, since no more are requested
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+    private volatile Flow.@Nullable Subscription subscription;
+    private volatile boolean cancelled;
+
+    private @Nullable Object next;
+    private int consumed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            subscription.request(BATCH_SIZE);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        signals.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        signals.add(new Failure(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        signals.add(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        Object signal = peek();
+        if (signal instanceof Failure failure) {
+            throw new UncheckedIOException(new IOException("The Flow.Publisher of the EventFeed signaled an error.", failure.throwable()));
+        }
+        return signal != COMPLETE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T item = (T) peek();
+        next = null;
+        if (++consumed == BATCH_SIZE / 2) {
+            consumed = 0;
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.request(BATCH_SIZE / 2);
+            }
+        }
+        return item;
+    }
+
+    void cancel() {
+        cancelled = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    private Object peek() {
+        Object signal = next;
+        if (signal == null) {
+            try {
+                signal = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for the next element of the EventFeed."));
+            }
+            next = signal;
+        }
+        return signal;
+    }
+
+    private record Failure(Throwable throwable) {}
+}
@@ -0,0 +1,155 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import io.github.solaris.jaxrs.client.test.internal.Throttling;
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * <p>A token bucket that simulates the rate limit of a server.</p>
+ * <p>
+ * The bucket holds up to {@code burst} tokens and is refilled continuously at a rate of {@code permits} tokens per {@code period}.
+ * Every request consumes one token, requests that find the bucket empty are answered with status code 429
+ * ({@link jakarta.ws.rs.core.Response.Status#TOO_MANY_REQUESTS TOO_MANY_REQUESTS}) and a {@code Retry-After} header
+ * containing the seconds until the next token becomes available.
+ * </p>
+ * <p>
+ * A {@code RateLimit} applies to all {@code ResponseCreators} it is passed to, so it can be shared across expectations to limit the server as a whole,
+ * or used for a single expectation. It measures time on the {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock}
+ * of the server, if there is one.
+ * </p>
+ * <pre><code>
+ *  RateLimit rateLimit = RateLimit.of(10, Duration.ofSeconds(1));
+ *
+ *  server.expect(ExpectedCount.min(1), requestTo("/search"))
+ *      .andRespond(withRateLimit(withSuccess(), rateLimit));
+ *
+ *  // Test code that uses the Client
+ *
+ *  server.verify();
+ *  assertThat(rateLimit.getThrottledCount()).isZero();
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withRateLimit(ResponseCreator, RateLimit)
+ */
+public final class RateLimit {
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    /**
+     * The time at which the bucket would be full again if no further requests arrive, minus one interval.
+     * Keeping the whole bucket in a single value allows updating it with a plain compare-and-set.
+     */
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(UNUSED);
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private RateLimit(long intervalNanos, long toleranceNanos) {
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = toleranceNanos;
+    }
+
+    /**
+     * A rate limit of {@code permits} requests per {@code period} that allows all permits of a period to be used at once.
+     *
+     * @param permits The amount of requests per period
+     * @param period  The period of the rate limit
+     */
+    public static RateLimit of(int permits, Duration period) {
+        return of(permits, period, permits);
+    }
+
+    /**
+     * A rate limit of {@code permits} requests per {@code period} that allows up to {@code burst} requests at once.
+     *
+     * @param permits The amount of requests per period
+     * @param period  The period of the rate limit
+     * @param burst   The capacity of the bucket
+     */
+    public static RateLimit of(int permits, Duration period, int burst) {
+        validateNotNull(period, "'period' must not be null.");
+        if (permits <= 0) {
+            throw new IllegalArgumentException("'permits' must be positive.");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("'period' must be positive.");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("'burst' must be positive.");
+        }
+
+        long intervalNanos = Math.max(1, period.toNanos() / permits);
+        return new RateLimit(intervalNanos, multiplySaturated(intervalNanos, burst - 1L));
+    }
+
+    /**
+     * The amount of requests that were answered by the limited {@code ResponseCreator}.
+     */
+    public long getPermittedCount() {
+        return permitted.sum();
+    }
+
+    /**
+     * The amount of requests that were answered with status code 429.
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    Response createResponse(ClientRequestContext request, ResponseCreator responseCreator) throws IOException {
+        long waitNanos = acquire(Timeline.fromRequestContext(request).nanoTime());
+        if (waitNanos == 0) {
+            permitted.increment();
+            return responseCreator.createResponse(request);
+        }
+
+        throttled.increment();
+        Throttling.markThrottled(request);
+        return MockResponseCreators.withTooManyRequests(toRetryAfter(waitNanos)).createResponse(request);
+    }
+
+    /**
+     * Take a token from the bucket.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until the next token becomes available
+     */
+    private long acquire(long now) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long base = tat == UNUSED || tat - now < 0 ? now : tat;
+            long waitNanos = base - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private static int toRetryAfter(long waitNanos) {
+        long seconds = (waitNanos + 999_999_999) / 1_000_000_000;
+        return (int) Math.min(Integer.MAX_VALUE, seconds);
+    }
+
+    private static long multiplySaturated(long x, long y) {
+        long high = Math.multiplyHigh(x, y);
+        long low = x * y;
+        return high == 0 && low >= 0 ? low : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit[permitted=" + getPermittedCount() + ", throttled=" + getThrottledCount() + "]";
+    }
+}
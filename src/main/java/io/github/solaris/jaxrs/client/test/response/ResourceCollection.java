@@ -0,0 +1,380 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
+import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.PRECONDITION_FAILED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.StatusType;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * <p>A {@link ResponseCreator} that emulates a REST collection of resources, kept in memory for the lifetime of the instance.</p>
+ * <p>
+ * Requests to the path of the collection and to the paths of its items are answered like a typical CRUD service would,
+ * so resources created by a {@code POST} are returned by later {@code GET} requests:
+ * </p>
+ * <ul>
+ *     <li>{@code GET /users} returns a page of the resources in the order of their ids, see {@link PagingResponseCreator}</li>
+ *     <li>{@code POST /users} creates a resource with the next numeric id and returns it with status 201 and a {@code Location}</li>
+ *     <li>{@code GET /users/{id}} returns the resource or status 404</li>
+ *     <li>{@code PUT /users/{id}} replaces or creates the resource</li>
+ *     <li>{@code PATCH /users/{id}} merges the request entity into the resource via the function given to {@link #patchWith(BinaryOperator)}</li>
+ *     <li>{@code DELETE /users/{id}} removes the resource</li>
+ * </ul>
+ * <p>
+ * Every change gives the resource a new version that is returned as its {@code ETag}. Versions are unique within the collection,
+ * so a resource that is created again after it was deleted never reuses the {@code ETag} of its predecessor.
+ * {@code If-None-Match} on {@code GET} and {@code If-Match} on {@code PUT}, {@code PATCH} and {@code DELETE} are honored
+ * with status 304 and 412 respectively, {@code If-Match} only accepts strong {@code ETags}. Request entities are converted to the type of the collection via the {@link EntityConverter}.
+ * </p>
+ * <p>
+ * The resources are held in a concurrent map and every change is applied atomically to its resource alone,
+ * so concurrent requests to different resources never wait for each other.
+ * </p>
+ * <pre><code>
+ * ResourceCollection&lt;User&gt; users = withResources("/users", User.class)
+ *         .assignIds((user, id) -&gt; user.withId(Long.parseLong(id)));
+ *
+ * server.expect(ExpectedCount.min(1), anything()).andRespond(users);
+ * </code></pre>
+ *
+ * @param <T> The type of the resources
+ * @see MockResponseCreators#withResources(String, Class)
+ */
+public final class ResourceCollection<T> implements ResponseCreator {
+    private final String path;
+    private final Class<T> type;
+    private final ConcurrentNavigableMap<String, Versioned<T>> resources = new ConcurrentSkipListMap<>(ResourceCollection::compareIds);
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong nextVersion = new AtomicLong();
+
+    private MediaType mediaType = MediaType.APPLICATION_JSON_TYPE;
+    private BiFunction<? super T, String, ? extends T> idAssigner = (resource, id) -> resource;
+    private @Nullable BinaryOperator<T> patcher;
+
+    ResourceCollection(String path, Class<T> type) {
+        validateNotNull(path, "'path' must not be null.");
+        validateNotNull(type, "'type' must not be null.");
+        this.path = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        this.type = type;
+    }
+
+    /**
+     * Store the id of a resource in the resource itself, e.g. in its {@code id} field, when it is created or replaced.
+     * By default, resources are stored as sent and their id is only part of their URI.
+     *
+     * @param idAssigner Returns the given resource with the given id
+     */
+    public ResourceCollection<T> assignIds(BiFunction<? super T, String, ? extends T> idAssigner) {
+        validateNotNull(idAssigner, "'idAssigner' must not be null.");
+        this.idAssigner = idAssigner;
+        return this;
+    }
+
+    /**
+     * Support {@code PATCH} requests by merging the request entity into the current resource.
+     * Without it, {@code PATCH} is answered with status 405.
+     *
+     * @param patcher Returns the result of applying the patch (second argument) to the current resource (first argument)
+     */
+    public ResourceCollection<T> patchWith(BinaryOperator<T> patcher) {
+        validateNotNull(patcher, "'patcher' must not be null.");
+        this.patcher = patcher;
+        return this;
+    }
+
+    /**
+     * The {@code Content-Type} of the returned resources. Defaults to {@code application/json}.
+     *
+     * @param mediaType The media type
+     */
+    public ResourceCollection<T> mediaType(MediaType mediaType) {
+        validateNotNull(mediaType, "'mediaType' must not be null.");
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    /**
+     * Add or replace a resource without a request, e.g. to prepare a test.
+     *
+     * @param id       The id of the resource
+     * @param resource The resource
+     */
+    public ResourceCollection<T> put(String id, T resource) {
+        validateNotNull(id, "'id' must not be null.");
+        validateNotNull(resource, "'resource' must not be null.");
+        T stored = idAssigner.apply(resource, id);
+        resources.put(id, versioned(stored));
+        return this;
+    }
+
+    /**
+     * The resource with the given id, e.g. to assert on the result of a test.
+     *
+     * @param id The id of the resource
+     * @return The resource or {@code null} if there is none
+     */
+    public @Nullable T get(String id) {
+        validateNotNull(id, "'id' must not be null.");
+        Versioned<T> versioned = resources.get(id);
+        return versioned != null ? versioned.resource() : null;
+    }
+
+    /**
+     * The current amount of resources.
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        String requestPath = request.getUri().getRawPath() == null ? "" : request.getUri().getRawPath();
+        if (requestPath.endsWith("/")) {
+            requestPath = requestPath.substring(0, requestPath.length() - 1);
+        }
+
+        if (requestPath.equals(path)) {
+            return switch (request.getMethod()) {
+                case HttpMethod.GET -> list(request);
+                case HttpMethod.POST -> create(request);
+                default -> methodNotAllowed(request, "GET, POST");
+            };
+        }
+
+        String rawId = requestPath.startsWith(path + "/") ? requestPath.substring(path.length() + 1) : "";
+        if (rawId.isEmpty() || rawId.contains("/")) {
+            return status(NOT_FOUND).createResponse(request);
+        }
+
+        String id = URLDecoder.decode(rawId, UTF_8);
+        return switch (request.getMethod()) {
+            case HttpMethod.GET -> read(request, id);
+            case HttpMethod.PUT -> replace(request, id);
+            case HttpMethod.PATCH -> patcher != null ? patch(request, id, patcher) : methodNotAllowed(request, itemMethods());
+            case HttpMethod.DELETE -> delete(request, id);
+            default -> methodNotAllowed(request, itemMethods());
+        };
+    }
+
+    private Response list(ClientRequestContext request) throws IOException {
+        List<T> snapshot = new ArrayList<>(resources.size());
+        for (Versioned<T> versioned : resources.values()) {
+            snapshot.add(versioned.resource());
+        }
+        return new PagingResponseCreator(snapshot.size(), index -> snapshot.get(Math.toIntExact(index)))
+                .mediaType(mediaType)
+                .createResponse(request);
+    }
+
+    private Response create(ClientRequestContext request) throws IOException {
+        T resource = readEntity(request);
+        if (resource == null) {
+            return status(BAD_REQUEST).createResponse(request);
+        }
+
+        String id;
+        Versioned<T> created;
+        do {
+            id = String.valueOf(nextId.incrementAndGet());
+            created = versioned(idAssigner.apply(resource, id));
+        } while (resources.putIfAbsent(id, created) != null);
+
+        URI location = UriBuilder.fromUri(request.getUri()).replaceQuery(null).path(id).build();
+        return resource(CREATED, created).header(HttpHeaders.LOCATION, location).createResponse(request);
+    }
+
+    private Response read(ClientRequestContext request, String id) throws IOException {
+        Versioned<T> current = resources.get(id);
+        if (current == null) {
+            return status(NOT_FOUND).createResponse(request);
+        }
+        if (matches(request.getHeaderString(HttpHeaders.IF_NONE_MATCH), current, true)) {
+            return status(NOT_MODIFIED).header(HttpHeaders.ETAG, current.entityTag()).createResponse(request);
+        }
+        return resource(OK, current).createResponse(request);
+    }
+
+    private Response replace(ClientRequestContext request, String id) throws IOException {
+        T resource = readEntity(request);
+        if (resource == null) {
+            return status(BAD_REQUEST).createResponse(request);
+        }
+
+        T stored = idAssigner.apply(resource, id);
+        while (true) {
+            Versioned<T> current = resources.get(id);
+            if (!preconditionMet(request, current)) {
+                return status(PRECONDITION_FAILED).createResponse(request);
+            }
+            if (current == null) {
+                Versioned<T> created = versioned(stored);
+                if (resources.putIfAbsent(id, created) == null) {
+                    return resource(CREATED, created).createResponse(request);
+                }
+            } else {
+                Versioned<T> replaced = versioned(stored);
+                if (resources.replace(id, current, replaced)) {
+                    return resource(OK, replaced).createResponse(request);
+                }
+            }
+        }
+    }
+
+    private Response patch(ClientRequestContext request, String id, BinaryOperator<T> patcher) throws IOException {
+        T patch = readEntity(request);
+        if (patch == null) {
+            return status(BAD_REQUEST).createResponse(request);
+        }
+
+        while (true) {
+            Versioned<T> current = resources.get(id);
+            if (current == null) {
+                return status(NOT_FOUND).createResponse(request);
+            }
+            if (!preconditionMet(request, current)) {
+                return status(PRECONDITION_FAILED).createResponse(request);
+            }
+            Versioned<T> patched = versioned(idAssigner.apply(patcher.apply(current.resource(), patch), id));
+            if (resources.replace(id, current, patched)) {
+                return resource(OK, patched).createResponse(request);
+            }
+        }
+    }
+
+    private Response delete(ClientRequestContext request, String id) throws IOException {
+        while (true) {
+            Versioned<T> current = resources.get(id);
+            if (current == null) {
+                return status(NOT_FOUND).createResponse(request);
+            }
+            if (!preconditionMet(request, current)) {
+                return status(PRECONDITION_FAILED).createResponse(request);
+            }
+            if (resources.remove(id, current)) {
+                return status(NO_CONTENT).createResponse(request);
+            }
+        }
+    }
+
+    private @Nullable T readEntity(ClientRequestContext request) throws IOException {
+        if (!request.hasEntity()) {
+            return null;
+        }
+        return EntityConverter.fromRequestContext(request).convertEntity(request, type);
+    }
+
+    private Versioned<T> versioned(T resource) {
+        return new Versioned<>(resource, nextVersion.incrementAndGet());
+    }
+
+    private MockResponseCreator resource(StatusType status, Versioned<T> versioned) {
+        return status(status)
+                .entity(versioned.resource())
+                .mediaType(mediaType)
+                .header(HttpHeaders.ETAG, versioned.entityTag());
+    }
+
+    private static MockResponseCreator status(StatusType status) {
+        return new MockResponseCreator(status);
+    }
+
+    private String itemMethods() {
+        return patcher != null ? "GET, PUT, PATCH, DELETE" : "GET, PUT, DELETE";
+    }
+
+    private static Response methodNotAllowed(ClientRequestContext request, String allowedMethods) throws IOException {
+        return status(METHOD_NOT_ALLOWED).header(HttpHeaders.ALLOW, allowedMethods).createResponse(request);
+    }
+
+    private static boolean preconditionMet(ClientRequestContext request, @Nullable Versioned<?> current) {
+        String ifMatch = request.getHeaderString(HttpHeaders.IF_MATCH);
+        return ifMatch == null || current != null && matches(ifMatch, current, false);
+    }
+
+    /**
+     * Whether the value of an {@code If-Match} or {@code If-None-Match} header matches the version of the resource.
+     * {@code If-Match} uses the strong comparison, in which weak tags never match.
+     */
+    private static boolean matches(@Nullable String header, Versioned<?> current, boolean weakComparison) {
+        if (header == null) {
+            return false;
+        }
+        for (String tag : header.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                if (!weakComparison) {
+                    continue;
+                }
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals("\"" + current.version() + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Numeric ids in numeric order, followed by all other ids in lexicographic order.
+     */
+    private static int compareIds(String first, String second) {
+        boolean firstNumeric = isNumeric(first);
+        boolean secondNumeric = isNumeric(second);
+        if (firstNumeric && secondNumeric) {
+            int byLength = Integer.compare(first.length(), second.length());
+            return byLength != 0 ? byLength : first.compareTo(second);
+        }
+        if (firstNumeric != secondNumeric) {
+            return firstNumeric ? -1 : 1;
+        }
+        return first.compareTo(second);
+    }
+
+    private static boolean isNumeric(String id) {
+        if (id.isEmpty() || id.length() > 1 && id.charAt(0) == '0') {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) < '0' || id.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Versioned<T>(T resource, long version) {
+
+        EntityTag entityTag() {
+            return new EntityTag(String.valueOf(version));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import io.github.solaris.jaxrs.client.test.internal.SerializingRequestContext;
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * Access to the serialized body of outbound (mocked) as well as inbound (executed) responses.
+ */
+final class ResponseBodies {
+    private static final byte[] EMPTY = new byte[0];
+
+    private ResponseBodies() {}
+
+    /**
+     * Read the serialized response body, consuming the entity stream of inbound responses.
+     *
+     * @return The body, empty if the response has none
+     */
+    static byte[] read(ClientRequestContext request, Response response) throws IOException {
+        if (!response.hasEntity()) {
+            return EMPTY;
+        }
+
+        try (InputStream entity = stream(request, response)) {
+            return entity.readAllBytes();
+        }
+    }
+
+    private static InputStream stream(ClientRequestContext request, Response response) throws IOException {
+        Object entity;
+        try {
+            entity = response.getEntity();
+        } catch (IllegalStateException e) {
+            // Inbound responses, e.g. from an ExecutingResponseCreator
+            return response.readEntity(InputStream.class);
+        }
+
+        if (entity instanceof InputStream stream) {
+            return stream;
+        }
+        return EntityConverter.fromRequestContext(request).convertEntity(new SerializingRequestContext(response), InputStream.class);
+    }
+}
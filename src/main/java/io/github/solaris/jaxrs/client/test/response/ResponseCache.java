@@ -0,0 +1,313 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static jakarta.ws.rs.core.HttpHeaders.DATE;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.EXPIRES;
+import static jakarta.ws.rs.core.HttpHeaders.IF_MODIFIED_SINCE;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static jakarta.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static jakarta.ws.rs.core.HttpHeaders.VARY;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * <p>A bounded cache for the responses of {@code GET} requests that honours the caching headers of the responses.</p>
+ * <p>
+ * Intended to be placed in front of an {@link ExecutingResponseCreator},
+ * so repeated identical requests within a test run do not reach the real service.
+ * Only responses with status code 200 are stored, unless they contain {@code Cache-Control: no-store} or a {@code Vary} header.
+ * Stored responses are served while they are fresh according to {@code Cache-Control: max-age} or {@code Expires}.
+ * Stale responses and responses with {@code Cache-Control: no-cache} are revalidated with a conditional request if they have an {@code ETag}
+ * or {@code Last-Modified} header, and fetched again otherwise.
+ * </p>
+ * <p>
+ * Once full, the least recently used response is evicted. Concurrent identical requests that miss the cache share a single call to the service.
+ * Freshness is measured on the {@link io.github.solaris.jaxrs.client.test.server.VirtualClock VirtualClock} of the server, if there is one.
+ * </p>
+ * <pre><code>
+ *  ResponseCache cache = ResponseCache.withMaxEntries(100);
+ *  ResponseCreator cachedServiceCall = withCache(new ExecutingResponseCreator(), cache);
+ *
+ *  server.expect(ExpectedCount.min(1), requestTo("https://api.example.com/countries")).andRespond(cachedServiceCall);
+ *
+ *  // Test code that uses the Client
+ *
+ *  assertThat(cache.getMissCount()).isOne();
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withCache(ResponseCreator, ResponseCache)
+ */
+public final class ResponseCache {
+    private final Map<String, CachedResponse> entries;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * A cache that holds up to {@code maxEntries} responses.
+     *
+     * @param maxEntries The maximum amount of cached responses
+     */
+    public static ResponseCache withMaxEntries(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("'maxEntries' must be positive.");
+        }
+        return new ResponseCache(maxEntries);
+    }
+
+    /**
+     * The amount of requests that were answered with a fresh cached response.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The amount of requests that had to call the service, including revalidations.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The amount of conditional requests that confirmed that a stale cached response is still valid.
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    /**
+     * The amount of requests that waited for an identical concurrent request instead of calling the service.
+     */
+    public long getCoalescedCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    /**
+     * The amount of responses that were evicted because the cache was full.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * The amount of currently cached responses.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    Response createResponse(ClientRequestContext request, ResponseCreator responseCreator) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod()) || request.hasEntity()) {
+            return responseCreator.createResponse(request);
+        }
+
+        Directives requestDirectives = Directives.parse(request.getHeaderString(CACHE_CONTROL));
+        if (requestDirectives.noStore()) {
+            return responseCreator.createResponse(request);
+        }
+
+        Timeline timeline = Timeline.fromRequestContext(request);
+        String key = request.getUri().toString();
+        CachedResponse entry = get(key);
+        if (entry != null && !requestDirectives.noCache() && entry.isFresh(timeline.nanoTime())) {
+            hits.increment();
+            return entry.response().toResponse();
+        }
+
+        return singleFlight.execute(key, () -> {
+            misses.increment();
+            BufferedResponse response = fetch(request, responseCreator, entry);
+            store(key, response, timeline);
+            return response;
+        }).toResponse();
+    }
+
+    private BufferedResponse fetch(ClientRequestContext request, ResponseCreator responseCreator, @Nullable CachedResponse stale) throws IOException {
+        MultivaluedMap<String, Object> requestHeaders = request.getHeaders();
+        String conditionalHeader = null;
+        if (stale != null) {
+            String etag = stale.response().getHeader(ETAG);
+            String lastModified = stale.response().getHeader(LAST_MODIFIED);
+            if (etag != null && !requestHeaders.containsKey(IF_NONE_MATCH)) {
+                requestHeaders.putSingle(IF_NONE_MATCH, etag);
+                conditionalHeader = IF_NONE_MATCH;
+            } else if (lastModified != null && !requestHeaders.containsKey(IF_MODIFIED_SINCE)) {
+                requestHeaders.putSingle(IF_MODIFIED_SINCE, lastModified);
+                conditionalHeader = IF_MODIFIED_SINCE;
+            }
+        }
+
+        BufferedResponse response;
+        try {
+            response = BufferedResponse.read(request, responseCreator.createResponse(request));
+        } finally {
+            // Only remove the header added here, the client may have sent the other one itself
+            if (conditionalHeader != null) {
+                requestHeaders.remove(conditionalHeader);
+            }
+        }
+
+        if (conditionalHeader != null && stale != null && response.status() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            revalidations.increment();
+            MultivaluedMap<String, String> headers = new MultivaluedHashMap<>(stale.response().headers());
+            response.headers().forEach((name, values) -> {
+                if (!CONTENT_LENGTH.equals(name)) {
+                    headers.put(name, values);
+                }
+            });
+            return new BufferedResponse(stale.response().status(), headers, stale.response().body());
+        }
+        return response;
+    }
+
+    private void store(String key, BufferedResponse response, Timeline timeline) {
+        Directives directives = Directives.parse(response.getHeader(CACHE_CONTROL));
+        if (response.status() != Response.Status.OK.getStatusCode() || directives.noStore() || response.getHeader(VARY) != null) {
+            remove(key);
+            return;
+        }
+
+        long freshnessNanos = directives.noCache() ? 0 : freshnessNanos(directives, response, timeline.instant());
+        synchronized (this) {
+            entries.put(key, new CachedResponse(response, timeline.nanoTime(), freshnessNanos));
+        }
+    }
+
+    private synchronized @Nullable CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    private static long freshnessNanos(Directives directives, BufferedResponse response, Instant now) {
+        if (directives.maxAgeSeconds() >= 0) {
+            return toNanosSaturated(Duration.ofSeconds(directives.maxAgeSeconds()));
+        }
+
+        Instant expires = parseDate(response.getHeader(EXPIRES));
+        if (expires == null) {
+            return 0;
+        }
+        Instant date = parseDate(response.getHeader(DATE));
+        Duration freshness = Duration.between(date != null ? date : now, expires);
+        return freshness.isNegative() ? 0 : toNanosSaturated(freshness);
+    }
+
+    private static long toNanosSaturated(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static @Nullable Instant parseDate(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value, RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            // Invalid dates, e.g. "Expires: 0", mean already expired
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+
+    private record CachedResponse(BufferedResponse response, long storedAtNanos, long freshnessNanos) {
+
+        boolean isFresh(long now) {
+            return now - storedAtNanos < freshnessNanos;
+        }
+    }
+
+    private record Directives(boolean noStore, boolean noCache, long maxAgeSeconds) {
+        private static final Directives NONE = new Directives(false, false, -1);
+
+        static Directives parse(@Nullable String cacheControl) {
+            if (cacheControl == null || cacheControl.isBlank()) {
+                return NONE;
+            }
+
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = -1;
+            for (String directive : cacheControl.split(",")) {
+                String[] nameAndValue = directive.strip().split("=", 2);
+                String name = nameAndValue[0].strip().toLowerCase(Locale.ROOT);
+                switch (name) {
+                    case "no-store" -> noStore = true;
+                    case "no-cache" -> noCache = true;
+                    case "max-age" -> maxAge = parseSeconds(nameAndValue);
+                    default -> {
+                        // Other directives do not affect a private cache
+                    }
+                }
+            }
+            return new Directives(noStore, noCache, maxAge);
+        }
+
+        private static long parseSeconds(String[] nameAndValue) {
+            if (nameAndValue.length < 2) {
+                return 0;
+            }
+            try {
+                return Math.max(0, Long.parseLong(nameAndValue[1].strip().replace("\"", "")));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * <p>A local store of responses, recorded from a real service and replayed in later test runs, e.g. in an offline CI.</p>
+ * <p>
+ * Responses are stored per request fingerprint, which consists of the HTTP method, the URI and the serialized request body.
+ * Request headers are not part of the fingerprint, since they often contain changing values like tokens or timestamps.
+ * When the same request is recorded more than once, the latest recording is replayed.
+ * </p>
+ * <p>
+ * The store is a directory containing two append-only files: a data file with compressed status codes, headers and bodies,
+ * where identical bodies are only stored once, and an index file with one fixed-size entry per recorded response.
+ * The index is memory-mapped for replaying. A store must not be written by more than one {@code ResponseRecording} at once.
+ * </p>
+ * <pre><code>
+ *  // Recording against the real service
+ *  try (ResponseRecording recording = ResponseRecording.open(Path.of("src/test/resources/recordings/orders"))) {
+ *      server.expect(ExpectedCount.min(1), requestTo("/orders")).andRespond(recording.record(new ExecutingResponseCreator()));
+ *      // Test code that uses the Client
+ *  }
+ *
+ *  // Replaying in later runs
+ *  try (ResponseRecording recording = ResponseRecording.open(Path.of("src/test/resources/recordings/orders"))) {
+ *      server.expect(ExpectedCount.min(1), requestTo("/orders")).andRespond(recording.replay());
+ *      // Test code that uses the Client
+ *  }
+ * </code></pre>
+ *
+ * @see ExecutingResponseCreator
+ */
+public final class ResponseRecording implements Closeable {
+    private static final String DATA_FILE = "responses.dat";
+    private static final String INDEX_FILE = "responses.idx";
+    private static final int HASH_LENGTH = 32;
+
+    // fingerprint, body hash, metadata offset and length, body offset and length
+    private static final int ENTRY_LENGTH = HASH_LENGTH + HASH_LENGTH + Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final FileChannel data;
+    private final FileChannel index;
+    private final Map<ByteBuffer, Location> bodies = new HashMap<>();
+
+    private ResponseRecording(Path directory, FileChannel data, FileChannel index) {
+        this.directory = directory;
+        this.data = data;
+        this.index = index;
+    }
+
+    /**
+     * Open the store in the given directory, creating it if it does not exist yet.
+     *
+     * @param directory The directory of the store
+     * @throws IOException If the store cannot be opened
+     */
+    public static ResponseRecording open(Path directory) throws IOException {
+        validateNotNull(directory, "'directory' must not be null.");
+        Files.createDirectories(directory);
+
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE), CREATE, READ, WRITE);
+        FileChannel index;
+        try {
+            index = FileChannel.open(directory.resolve(INDEX_FILE), CREATE, READ, WRITE);
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+
+        ResponseRecording recording = new ResponseRecording(directory, data, index);
+        try {
+            recording.loadBodies();
+        } catch (IOException e) {
+            recording.close();
+            throw e;
+        }
+        return recording;
+    }
+
+    /**
+     * The amount of responses in the store.
+     *
+     * @throws IOException If the index cannot be read
+     */
+    public synchronized int size() throws IOException {
+        return (int) (index.size() / ENTRY_LENGTH);
+    }
+
+    /**
+     * {@code ResponseCreator} that obtains the response from another {@code ResponseCreator}, usually an {@link ExecutingResponseCreator},
+     * and appends it to the store.
+     *
+     * @param responseCreator The {@code ResponseCreator} to record
+     */
+    public ResponseCreator record(ResponseCreator responseCreator) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        return request -> {
+            byte[] fingerprint = fingerprint(request);
+            BufferedResponse recorded = BufferedResponse.read(request, responseCreator.createResponse(request));
+            append(fingerprint, recorded);
+            return recorded.toResponse();
+        };
+    }
+
+    /**
+     * <p>{@code ResponseCreator} that answers requests with the responses recorded in the store.</p>
+     * <p>Only responses recorded before this method is called are replayed.</p>
+     *
+     * @throws IOException If the index cannot be mapped
+     */
+    public ResponseCreator replay() throws IOException {
+        ReplayIndex replayIndex = mapIndex();
+        return request -> {
+            int entry = replayIndex.find(fingerprint(request));
+            if (entry < 0) {
+                throw new AssertionError("No recorded response for HTTP " + request.getMethod() + " " + request.getUri() + " in " + directory);
+            }
+            return readEntry(replayIndex.entries, entry).toResponse();
+        };
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try (data; index) {
+            bodies.clear();
+        }
+    }
+
+    private synchronized void append(byte[] fingerprint, BufferedResponse response) throws IOException {
+        byte[] bodyHash = Digests.sha256(response.body());
+        Location body = bodies.get(ByteBuffer.wrap(bodyHash));
+        if (body == null) {
+            body = write(response.body());
+            bodies.put(ByteBuffer.wrap(bodyHash), body);
+        }
+        Location metadata = write(serializeMetadata(response));
+
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_LENGTH)
+                .put(fingerprint)
+                .put(bodyHash)
+                .putLong(metadata.offset())
+                .putInt(metadata.length())
+                .putLong(body.offset())
+                .putInt(body.length())
+                .flip();
+        writeFully(index, entry, index.size());
+    }
+
+    private Location write(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2 + 16);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            deflater.write(bytes);
+        }
+
+        long offset = data.size();
+        writeFully(data, ByteBuffer.wrap(compressed.toByteArray()), offset);
+        return new Location(offset, compressed.size());
+    }
+
+    private byte[] read(long offset, int length) throws IOException {
+        ByteBuffer compressed = ByteBuffer.allocate(length);
+        while (compressed.hasRemaining()) {
+            if (data.read(compressed, offset + compressed.position()) < 0) {
+                throw new EOFException("Unexpected end of " + directory.resolve(DATA_FILE));
+            }
+        }
+
+        try (InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(compressed.array()))) {
+            return inflater.readAllBytes();
+        }
+    }
+
+    private void loadBodies() throws IOException {
+        long entries = index.size() / ENTRY_LENGTH;
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_LENGTH);
+        for (long i = 0; i < entries; i++) {
+            entry.clear();
+            while (entry.hasRemaining()) {
+                if (index.read(entry, i * ENTRY_LENGTH + entry.position()) < 0) {
+                    throw new EOFException("Unexpected end of " + directory.resolve(INDEX_FILE));
+                }
+            }
+
+            byte[] bodyHash = Arrays.copyOfRange(entry.array(), HASH_LENGTH, 2 * HASH_LENGTH);
+            entry.position(2 * HASH_LENGTH + Long.BYTES + Integer.BYTES);
+            bodies.put(ByteBuffer.wrap(bodyHash), new Location(entry.getLong(), entry.getInt()));
+        }
+    }
+
+    private synchronized ReplayIndex mapIndex() throws IOException {
+        long size = index.size() - index.size() % ENTRY_LENGTH;
+        return new ReplayIndex(index.map(MapMode.READ_ONLY, 0, size));
+    }
+
+    private BufferedResponse readEntry(ByteBuffer entries, int entry) throws IOException {
+        int position = entry * ENTRY_LENGTH + 2 * HASH_LENGTH;
+        byte[] metadata = read(entries.getLong(position), entries.getInt(position + Long.BYTES));
+        byte[] body = read(entries.getLong(position + Long.BYTES + Integer.BYTES), entries.getInt(position + 2 * Long.BYTES + Integer.BYTES));
+        return deserialize(metadata, body);
+    }
+
+    private static byte[] fingerprint(ClientRequestContext request) throws IOException {
+        MessageDigest digest = Digests.sha256();
+        digest.update(request.getMethod().getBytes(UTF_8));
+        digest.update((byte) '\n');
+        digest.update(request.getUri().toString().getBytes(UTF_8));
+        digest.update((byte) '\n');
+        if (request.hasEntity()) {
+            digest.update(EntityConverter.fromRequestContext(request).convertEntity(request, byte[].class));
+        }
+        return digest.digest();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static byte[] serializeMetadata(BufferedResponse response) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(response.status());
+            out.writeInt(response.headers().size());
+            for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeInt(header.getValue().size());
+                for (String value : header.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BufferedResponse deserialize(byte[] metadata, byte[] body) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(metadata))) {
+            int status = in.readInt();
+            MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+            int headerCount = in.readInt();
+            for (int i = 0; i < headerCount; i++) {
+                String name = in.readUTF();
+                int valueCount = in.readInt();
+                for (int j = 0; j < valueCount; j++) {
+                    headers.add(name, in.readUTF());
+                }
+            }
+            return new BufferedResponse(status, headers, body);
+        }
+    }
+
+    private record Location(long offset, int length) {}
+
+    /**
+     * Open addressing hash table over the memory-mapped index, keyed by the first 8 bytes of the fingerprint.
+     */
+    private static final class ReplayIndex {
+        private final MappedByteBuffer entries;
+        private final int[] slots;
+        private final int mask;
+
+        private ReplayIndex(MappedByteBuffer entries) {
+            this.entries = entries;
+            int count = entries.capacity() / ENTRY_LENGTH;
+            this.slots = new int[Integer.highestOneBit(Math.max(1, count) * 2 - 1) * 2];
+            this.mask = slots.length - 1;
+            Arrays.fill(slots, -1);
+
+            for (int entry = 0; entry < count; entry++) {
+                int slot = slotOf(entries.getLong(entry * ENTRY_LENGTH));
+                while (slots[slot] >= 0 && !sameFingerprint(slots[slot], entry)) {
+                    slot = (slot + 1) & mask;
+                }
+                // Later recordings of the same request replace earlier ones
+                slots[slot] = entry;
+            }
+        }
+
+        int find(byte[] fingerprint) {
+            ByteBuffer key = ByteBuffer.wrap(fingerprint);
+            int slot = slotOf(key.getLong(0));
+            while (slots[slot] >= 0) {
+                if (entries.slice(slots[slot] * ENTRY_LENGTH, HASH_LENGTH).equals(key)) {
+                    return slots[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private boolean sameFingerprint(int first, int second) {
+            return entries.slice(first * ENTRY_LENGTH, HASH_LENGTH).equals(entries.slice(second * ENTRY_LENGTH, HASH_LENGTH));
+        }
+
+        private int slotOf(long fingerprintPrefix) {
+            return (int) (fingerprintPrefix ^ (fingerprintPrefix >>> 32)) & mask;
+        }
+    }
+}
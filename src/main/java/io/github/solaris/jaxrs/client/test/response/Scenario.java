@@ -0,0 +1,103 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>A named state machine that is shared by the responses of one or more expectations.</p>
+ * <p>
+ * Each {@link ScenarioResponseCreator} obtained via {@link #respond()} answers a request with the response
+ * defined for the current state of the scenario and moves the scenario to the next state of that response.
+ * Reading the state and moving to the next one is a single atomic step, so concurrent requests observe
+ * every state at most as often as its transitions allow, without locking.
+ * </p>
+ * <pre><code>
+ * Scenario job = Scenario.named("job");
+ *
+ * server.expect(ExpectedCount.min(1), requestTo("/jobs/1")).andRespond(job.respond()
+ *         .inState(Scenario.STARTED, withSuccess(pending, APPLICATION_JSON_TYPE))
+ *         .inState("DONE", withSuccess(done, APPLICATION_JSON_TYPE)));
+ * server.expect(requestTo("/jobs/1/complete")).andRespond(job.respond()
+ *         .inState(Scenario.STARTED, withNoContent(), "DONE"));
+ * </code></pre>
+ */
+public final class Scenario {
+    /**
+     * The initial state of a scenario, unless a different one is given to {@link #named(String, String)}.
+     */
+    public static final String STARTED = "STARTED";
+
+    private final String name;
+    private final String initialState;
+    private final AtomicReference<String> state;
+
+    private Scenario(String name, String initialState) {
+        this.name = name;
+        this.initialState = initialState;
+        this.state = new AtomicReference<>(initialState);
+    }
+
+    /**
+     * Create a scenario in the state {@link #STARTED}.
+     *
+     * @param name The name of the scenario, used in error messages
+     */
+    public static Scenario named(String name) {
+        return named(name, STARTED);
+    }
+
+    /**
+     * Create a scenario in the given state.
+     *
+     * @param name         The name of the scenario, used in error messages
+     * @param initialState The state the scenario starts in
+     */
+    public static Scenario named(String name, String initialState) {
+        validateNotNull(name, "'name' must not be null.");
+        validateNotNull(initialState, "'initialState' must not be null.");
+        return new Scenario(name, initialState);
+    }
+
+    /**
+     * Create a {@link ResponseCreator} whose responses depend on, and change, the state of this scenario.
+     */
+    public ScenarioResponseCreator respond() {
+        return new ScenarioResponseCreator(this);
+    }
+
+    /**
+     * The name of the scenario.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The current state of the scenario.
+     */
+    public String getState() {
+        return state.get();
+    }
+
+    /**
+     * Move the scenario to the given state, e.g. to prepare a test.
+     *
+     * @param newState The new state
+     */
+    public void setState(String newState) {
+        validateNotNull(newState, "'newState' must not be null.");
+        state.set(newState);
+    }
+
+    /**
+     * Move the scenario back to its initial state.
+     */
+    public void reset() {
+        state.set(initialState);
+    }
+
+    AtomicReference<String> state() {
+        return state;
+    }
+}
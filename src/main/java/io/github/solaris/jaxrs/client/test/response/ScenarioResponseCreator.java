@@ -0,0 +1,95 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>A {@link ResponseCreator} that answers with the response defined for the current state of a {@link Scenario}.</p>
+ * <p>
+ * The response for a state is looked up in constant time. If a next state is defined for it,
+ * the scenario atomically moves from the observed state to the next state before the response is created.
+ * In a state without a response, the response given to {@link #otherwise(ResponseCreator)} is used,
+ * or an {@link AssertionError} is thrown if there is none.
+ * </p>
+ *
+ * @see Scenario#respond()
+ * @see MockResponseCreators#withSequence(ResponseCreator...)
+ */
+public final class ScenarioResponseCreator implements ResponseCreator {
+    private final Scenario scenario;
+    private final Map<String, Transition> transitions = new HashMap<>();
+
+    private @Nullable ResponseCreator otherwise;
+
+    ScenarioResponseCreator(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * Answer with the given response while the scenario is in the given state, without changing the state.
+     *
+     * @param state           The state of the scenario
+     * @param responseCreator The response in that state
+     */
+    public ScenarioResponseCreator inState(String state, ResponseCreator responseCreator) {
+        validateNotNull(state, "'state' must not be null.");
+        return inState(state, responseCreator, state);
+    }
+
+    /**
+     * Answer with the given response while the scenario is in the given state, and move it to the next state.
+     *
+     * @param state           The state of the scenario
+     * @param responseCreator The response in that state
+     * @param nextState       The state the scenario moves to
+     */
+    public ScenarioResponseCreator inState(String state, ResponseCreator responseCreator, String nextState) {
+        validateNotNull(state, "'state' must not be null.");
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        validateNotNull(nextState, "'nextState' must not be null.");
+        transitions.put(state, new Transition(responseCreator, nextState));
+        return this;
+    }
+
+    /**
+     * Answer with the given response in all states without a response of their own, without changing the state.
+     *
+     * @param responseCreator The response in all other states
+     */
+    public ScenarioResponseCreator otherwise(ResponseCreator responseCreator) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        this.otherwise = responseCreator;
+        return this;
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        AtomicReference<String> state = scenario.state();
+        while (true) {
+            String current = state.get();
+            Transition transition = transitions.get(current);
+            if (transition == null) {
+                if (otherwise == null) {
+                    throw new AssertionError("Scenario '" + scenario.getName() + "' has no response in state '" + current + "'.");
+                }
+                return otherwise.createResponse(request);
+            }
+
+            // Another request may have moved the scenario on in the meantime, it is then answered for the new state
+            if (current.equals(transition.nextState()) || state.compareAndSet(current, transition.nextState())) {
+                return transition.responseCreator().createResponse(request);
+            }
+        }
+    }
+
+    private record Transition(ResponseCreator responseCreator, String nextState) {}
+}
@@ -0,0 +1,144 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Duration;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>An event of a {@code text/event-stream} response created by {@link MockResponseCreators#withServerSentEvents(EventFeed)}.</p>
+ * <p>
+ * Only needed for events with an id, a name, a comment or a reconnect delay.
+ * All other elements of an {@link EventFeed} are sent as the data of an unnamed event.
+ * </p>
+ * <pre><code>
+ *  ServerSentEvent.of(new PriceUpdate("ACME", 42))
+ *      .id("17")
+ *      .name("price")
+ *      .mediaType(MediaType.APPLICATION_JSON_TYPE);
+ * </code></pre>
+ */
+public final class ServerSentEvent {
+    private final Object data;
+
+    private @Nullable MediaType mediaType;
+    private @Nullable String id;
+    private @Nullable String name;
+    private @Nullable String comment;
+    private @Nullable Duration reconnectDelay;
+
+    private ServerSentEvent(Object data) {
+        this.data = data;
+    }
+
+    /**
+     * An event with the given data. {@code Strings} are sent as they are, other objects are serialized as JSON by default.
+     *
+     * @param data The data of the event
+     */
+    public static ServerSentEvent of(Object data) {
+        validateNotNull(data, "'data' must not be null.");
+        return new ServerSentEvent(data);
+    }
+
+    /**
+     * Serialize the data of the event with the given {@link MediaType}.
+     *
+     * @param mediaType The media type of the data
+     */
+    public ServerSentEvent mediaType(MediaType mediaType) {
+        validateNotNull(mediaType, "'mediaType' must not be null.");
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    /**
+     * Set the id of the event, which the client sends back as {@code Last-Event-ID} when reconnecting.
+     *
+     * @param id The id, without line breaks
+     */
+    public ServerSentEvent id(String id) {
+        validateNotNull(id, "'id' must not be null.");
+        validateSingleLine(id, "'id' must not contain line breaks.");
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Set the name of the event, sent as the {@code event} field.
+     *
+     * @param name The name, without line breaks
+     */
+    public ServerSentEvent name(String name) {
+        validateNotNull(name, "'name' must not be null.");
+        validateSingleLine(name, "'name' must not contain line breaks.");
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Add a comment to the event.
+     *
+     * @param comment The comment
+     */
+    public ServerSentEvent comment(String comment) {
+        validateNotNull(comment, "'comment' must not be null.");
+        this.comment = comment;
+        return this;
+    }
+
+    /**
+     * Set the time the client should wait before reconnecting, sent as the {@code retry} field.
+     *
+     * @param reconnectDelay The reconnect delay
+     */
+    public ServerSentEvent reconnectDelay(Duration reconnectDelay) {
+        validateNotNull(reconnectDelay, "'reconnectDelay' must not be null.");
+        if (reconnectDelay.isNegative()) {
+            throw new IllegalArgumentException("'reconnectDelay' must not be negative.");
+        }
+        this.reconnectDelay = reconnectDelay;
+        return this;
+    }
+
+    Object getData() {
+        return data;
+    }
+
+    @Nullable MediaType getMediaType() {
+        return mediaType;
+    }
+
+    @Nullable String getId() {
+        return id;
+    }
+
+    @Nullable String getName() {
+        return name;
+    }
+
+    @Nullable String getComment() {
+        return comment;
+    }
+
+    @Nullable Duration getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    /**
+     * Unlike the data and comments, which are split into several lines, a line break in a single-line field would start another field or event.
+     */
+    private static void validateSingleLine(String value, String message) {
+        if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSentEvent[id=" + id + ", name=" + name + ", data=" + data + "]";
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets concurrent calls with the same key share the result of the first one instead of each performing the call.
+ */
+final class SingleFlight {
+    private final Map<String, CompletableFuture<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Perform the call, or wait for the result of an identical call that is already in flight.
+     */
+    BufferedResponse execute(String key, Call call) throws IOException {
+        CompletableFuture<BufferedResponse> result = new CompletableFuture<>();
+        CompletableFuture<BufferedResponse> leader = inFlight.putIfAbsent(key, result);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+
+        try {
+            BufferedResponse response = call.execute();
+            result.complete(response);
+            return response;
+        } catch (IOException | RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    /**
+     * The amount of calls that waited for an identical call instead of being performed.
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static BufferedResponse await(CompletableFuture<BufferedResponse> call) throws IOException {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an identical request.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    interface Call {
+        BufferedResponse execute() throws IOException;
+    }
+}
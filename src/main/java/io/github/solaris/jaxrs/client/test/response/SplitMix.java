@@ -0,0 +1,26 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+/**
+ * The SplitMix64 generator, computing the random value at any position of a seeded sequence without shared state.
+ */
+final class SplitMix {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SplitMix() {}
+
+    /**
+     * The value at the given position of the sequence of the seed.
+     */
+    static long valueAt(long seed, long index) {
+        return mix(seed + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * The SplitMix64 finalizer, turns consecutive seeds into independent random values.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+
+/**
+ * An {@link InputStream} that hands out the bytes of another stream at the pace of a {@link BodyThrottle}.
+ */
+final class ThrottledInputStream extends FilterInputStream {
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final Timeline timeline;
+    private final int chunkSize;
+    private final double nanosPerByte;
+    private final List<BodyThrottle.Stall> stalls;
+    private final byte[] single = new byte[1];
+
+    private long startNanos = UNSET;
+    private long transferred;
+    private long stalledNanos;
+    private int nextStall;
+
+    ThrottledInputStream(InputStream in, Timeline timeline, int chunkSize, double nanosPerByte, List<BodyThrottle.Stall> stalls) {
+        super(in);
+        this.timeline = timeline;
+        this.chunkSize = chunkSize;
+        this.nanosPerByte = nanosPerByte;
+        this.stalls = stalls;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        awaitNextChunk();
+        int count = Math.min(length, chunkSize);
+        if (nextStall < stalls.size()) {
+            count = (int) Math.min(count, stalls.get(nextStall).afterBytes() - transferred);
+        }
+
+        int read = in.read(bytes, offset, count);
+        if (read > 0) {
+            transferred += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        // Skipped bytes are transferred all the same
+        byte[] discarded = new byte[(int) Math.min(Math.max(count, 0), chunkSize)];
+        long skipped = 0;
+        while (skipped < count) {
+            int read = read(discarded, 0, (int) Math.min(discarded.length, count - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void awaitNextChunk() throws IOException {
+        long now = timeline.nanoTime();
+        if (startNanos == UNSET) {
+            startNanos = now;
+        }
+
+        while (nextStall < stalls.size() && stalls.get(nextStall).afterBytes() <= transferred) {
+            stalledNanos += stalls.get(nextStall++).nanos();
+        }
+
+        long due = startNanos + stalledNanos + (long) (transferred * nanosPerByte);
+        timeline.await(due - now);
+    }
+}
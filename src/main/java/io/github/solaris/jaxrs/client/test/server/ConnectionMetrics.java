@@ -0,0 +1,104 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+/**
+ * <p>A snapshot of the connections a client opened to a {@link LoopbackServer}, obtained via {@link MockRestServer#getConnectionMetrics()}.</p>
+ * <p>
+ * A client that reuses its connections sends many requests per connection,
+ * while a client that leaks connections, e.g. by not closing its responses, opens a new connection for almost every request.
+ * </p>
+ * <p>
+ * The server identifies connections by the address and port of the client, so the counts are approximate:
+ * a port the operating system reuses for a new connection within the idle timeout of the server counts as the old connection.
+ * </p>
+ * <pre><code>
+ * ConnectionMetrics metrics = server.getConnectionMetrics();
+ *
+ * assertThat(metrics.getConnections()).isEqualTo(1);
+ * assertThat(metrics.getReuseRatio()).isGreaterThan(0.9);
+ * </code></pre>
+ */
+public final class ConnectionMetrics {
+    private final long connections;
+    private final long requests;
+    private final long maxRequestsPerConnection;
+    private final int peakConcurrentConnections;
+    private final long bytesReceived;
+    private final long bytesSent;
+
+    ConnectionMetrics(long connections, long requests, long maxRequestsPerConnection, int peakConcurrentConnections, long bytesReceived, long bytesSent) {
+        this.connections = connections;
+        this.requests = requests;
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        this.peakConcurrentConnections = peakConcurrentConnections;
+        this.bytesReceived = bytesReceived;
+        this.bytesSent = bytesSent;
+    }
+
+    /**
+     * The amount of connections the client opened.
+     */
+    public long getConnections() {
+        return connections;
+    }
+
+    /**
+     * The amount of requests received over all connections.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * The average amount of requests per connection, {@code 0} if no connection was opened.
+     */
+    public double getRequestsPerConnection() {
+        return connections == 0 ? 0 : (double) requests / connections;
+    }
+
+    /**
+     * The highest amount of requests received over a single connection.
+     */
+    public long getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
+    /**
+     * The share of requests that were sent over an already open connection, between {@code 0} and {@code 1}.
+     */
+    public double getReuseRatio() {
+        return requests == 0 ? 0 : (double) (requests - connections) / requests;
+    }
+
+    /**
+     * The highest amount of connections that were used by requests at the same time.
+     */
+    public int getPeakConcurrentConnections() {
+        return peakConcurrentConnections;
+    }
+
+    /**
+     * The amount of request body bytes received, excluding the request line and headers.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * The amount of response body bytes sent, excluding the status line and headers.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionMetrics{"
+                + "connections=" + connections
+                + ", requests=" + requests
+                + ", maxRequestsPerConnection=" + maxRequestsPerConnection
+                + ", peakConcurrentConnections=" + peakConcurrentConnections
+                + ", bytesReceived=" + bytesReceived
+                + ", bytesSent=" + bytesSent
+                + '}';
+    }
+}
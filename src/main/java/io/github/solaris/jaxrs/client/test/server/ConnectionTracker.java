@@ -0,0 +1,130 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Counts the connections and transferred bytes of a {@link LoopbackServer}.</p>
+ * <p>
+ * The server doesn't expose its connections, so each connection is identified by the address and port of the client,
+ * which stay the same for all requests sent over it. Connections are counted from the first request sent over them.
+ * </p>
+ * <p>
+ * A connection without requests for longer than the idle timeout of the server has been closed by it,
+ * so it is forgotten and a later request from the same port counts as a new connection.
+ * The counts are approximate: a port the operating system reuses for a new connection before the idle timeout elapsed
+ * is counted as the old connection.
+ * </p>
+ */
+final class ConnectionTracker {
+    // The JDK HttpServer closes connections after 30 seconds without requests by default
+    static final Duration SERVER_IDLE_TIMEOUT = Duration.ofSeconds(Long.getLong("sun.net.httpserver.idleInterval", 30));
+
+    private final Map<InetSocketAddress, Connection> connections = new ConcurrentHashMap<>();
+    private final LongAdder openedConnections = new LongAdder();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicInteger peakConcurrentConnections = new AtomicInteger();
+    private final AtomicLong maxRequestsPerConnection = new AtomicLong();
+    private final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final long maxConnections;
+    private final long idleNanos;
+
+    ConnectionTracker(long maxConnections) {
+        this(maxConnections, SERVER_IDLE_TIMEOUT);
+    }
+
+    ConnectionTracker(long maxConnections, Duration idleTimeout) {
+        this.maxConnections = maxConnections;
+        this.idleNanos = idleTimeout.toNanos();
+    }
+
+    void begin(InetSocketAddress client) {
+        long now = System.nanoTime();
+        requests.increment();
+        evictIdleConnections(now);
+
+        connections.compute(client, (key, existing) -> {
+            Connection current = existing;
+            if (current == null || current.isIdle(now, idleNanos)) {
+                current = new Connection();
+                openedConnections.increment();
+            }
+            maxRequestsPerConnection.accumulateAndGet(current.requests.incrementAndGet(), Math::max);
+            if (current.inFlight.getAndIncrement() == 0) {
+                peakConcurrentConnections.accumulateAndGet(activeConnections.incrementAndGet(), Math::max);
+            }
+            return current;
+        });
+    }
+
+    void end(InetSocketAddress client) {
+        long now = System.nanoTime();
+        connections.computeIfPresent(client, (key, connection) -> {
+            connection.lastActive = now;
+            if (connection.inFlight.decrementAndGet() == 0) {
+                activeConnections.decrementAndGet();
+            }
+            return connection;
+        });
+    }
+
+    void received(long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    void sent(long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    ConnectionMetrics snapshot() {
+        return new ConnectionMetrics(openedConnections.sum(), requests.sum(), maxRequestsPerConnection.get(),
+                peakConcurrentConnections.get(), bytesReceived.sum(), bytesSent.sum());
+    }
+
+    void verify() {
+        ConnectionMetrics metrics = snapshot();
+        if (metrics.getConnections() > maxConnections) {
+            throw new AssertionError("Expected at most " + maxConnections + " connection(s) but the client opened "
+                    + metrics.getConnections() + ".\n" + metrics);
+        }
+    }
+
+    /**
+     * The amount of connections that are still remembered, i.e. that weren't idle for longer than the idle timeout.
+     */
+    int getTrackedConnections() {
+        return connections.size();
+    }
+
+    /**
+     * Forget the connections the server has closed in the meantime, at most once per idle timeout.
+     */
+    private void evictIdleConnections(long now) {
+        long last = lastEviction.get();
+        if (now - last < idleNanos || !lastEviction.compareAndSet(last, now)) {
+            return;
+        }
+
+        for (InetSocketAddress client : connections.keySet()) {
+            connections.computeIfPresent(client, (key, connection) -> connection.isIdle(now, idleNanos) ? null : connection);
+        }
+    }
+
+    private static final class Connection {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long lastActive = System.nanoTime();
+
+        private boolean isIdle(long now, long idleNanos) {
+            return inFlight.get() == 0 && now - lastActive > idleNanos;
+        }
+    }
+}
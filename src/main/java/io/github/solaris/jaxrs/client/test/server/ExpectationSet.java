@@ -0,0 +1,163 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+import io.github.solaris.jaxrs.client.test.response.ResponseActions;
+import io.github.solaris.jaxrs.client.test.response.ResponseCreator;
+
+/**
+ * <p>An immutable set of expectations that is built once and declared on any amount of servers via {@link MockRestServer#expectAll(ExpectationSet)}.</p>
+ * <p>
+ * The {@link RequestMatcher RequestMatchers} and {@link ResponseCreator ResponseCreators} are created once when building the set,
+ * so compiled JsonPath and XPath expressions are shared by all servers instead of being created again for every test.
+ * Declaring the set only creates fresh counters, which are verified and reset like those of all other expectations.
+ * As the set may be used by several tests at once, its matchers and response creators must not keep mutable state.
+ * </p>
+ * <pre><code>
+ * private static final ExpectationSet USERS = ExpectationSet.builder()
+ *         .expect(requestTo("/users/42")).andExpect(method(GET)).andRespond(withSuccess(user, APPLICATION_JSON_TYPE))
+ *         .expect(ExpectedCount.min(1), requestTo("/roles")).andRespond(withSuccess(roles, APPLICATION_JSON_TYPE))
+ *         .build();
+ * </code></pre>
+ */
+public final class ExpectationSet {
+    private final List<Template> templates;
+
+    private ExpectationSet(List<Template> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Start building an {@code ExpectationSet}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The amount of expectations in this set.
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    void declareOn(RequestExpectationManager expectationManager) {
+        for (Template template : templates) {
+            expectationManager.expectRequest(template.count(), template.matcher()).andRespond(template.responseCreator());
+        }
+    }
+
+    private record Template(ExpectedCount count, RequestMatcher matcher, ResponseCreator responseCreator) {}
+
+    /**
+     * Builder to create an {@link ExpectationSet}. Expectations are declared on the server in the order they are added.
+     */
+    public static final class Builder {
+        private final List<TemplateBuilder> templates = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Add an expectation for a request to be performed <b>exactly once</b>.
+         *
+         * @param requestMatcher The matching criteria
+         * @see MockRestServer#expect(RequestMatcher)
+         */
+        public TemplateBuilder expect(RequestMatcher requestMatcher) {
+            return expect(ExpectedCount.once(), requestMatcher);
+        }
+
+        /**
+         * Add an expectation for a request to be performed <b>a specified amount of times</b>.
+         *
+         * @param count          The amount of times the request is expected
+         * @param requestMatcher The matching criteria
+         * @see MockRestServer#expect(ExpectedCount, RequestMatcher)
+         */
+        public TemplateBuilder expect(ExpectedCount count, RequestMatcher requestMatcher) {
+            validateNotNull(count, "'count' must not be null.");
+            validateNotNull(requestMatcher, "'requestMatcher' must not be null.");
+            TemplateBuilder template = new TemplateBuilder(this, count, requestMatcher);
+            templates.add(template);
+            return template;
+        }
+
+        /**
+         * Build the {@link ExpectationSet}.
+         *
+         * @throws IllegalStateException If an expectation has no response
+         */
+        public ExpectationSet build() {
+            List<Template> built = new ArrayList<>(templates.size());
+            for (TemplateBuilder template : templates) {
+                built.add(template.build());
+            }
+            return new ExpectationSet(List.copyOf(built));
+        }
+    }
+
+    /**
+     * Further matching criteria and the response of an expectation in an {@link ExpectationSet}.
+     */
+    public static final class TemplateBuilder {
+        private final Builder builder;
+        private final ExpectedCount count;
+        private final List<RequestMatcher> matchers = new ArrayList<>();
+
+        private @Nullable ResponseCreator responseCreator;
+
+        private TemplateBuilder(Builder builder, ExpectedCount count, RequestMatcher requestMatcher) {
+            this.builder = builder;
+            this.count = count;
+            matchers.add(requestMatcher);
+        }
+
+        /**
+         * Add a matching criteria to the expectation.
+         *
+         * @param requestMatcher The matching criteria
+         * @see ResponseActions#andExpect(RequestMatcher)
+         */
+        public TemplateBuilder andExpect(RequestMatcher requestMatcher) {
+            validateNotNull(requestMatcher, "'requestMatcher' must not be null.");
+            matchers.add(requestMatcher);
+            return this;
+        }
+
+        /**
+         * Define the response for the expectation and continue with the next expectation.
+         *
+         * @param responseCreator The creator of the response
+         * @return The builder of the {@code ExpectationSet}
+         * @see ResponseActions#andRespond(ResponseCreator)
+         */
+        public Builder andRespond(ResponseCreator responseCreator) {
+            validateNotNull(responseCreator, "'responseCreator' must not be null.");
+            this.responseCreator = responseCreator;
+            return builder;
+        }
+
+        private Template build() {
+            if (responseCreator == null) {
+                throw new IllegalStateException("Every expectation of an ExpectationSet must define a response.");
+            }
+
+            // Combined once, so that declaring the template does not copy the matchers
+            RequestMatcher[] all = matchers.toArray(new RequestMatcher[0]);
+            RequestMatcher matcher = all.length == 1 ? all[0] : request -> {
+                for (RequestMatcher requestMatcher : all) {
+                    requestMatcher.match(request);
+                }
+            };
+            return new Template(count, matcher, responseCreator);
+        }
+    }
+}
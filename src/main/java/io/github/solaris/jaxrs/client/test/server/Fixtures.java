@@ -0,0 +1,326 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.Nullable;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+import io.github.solaris.jaxrs.client.test.request.RequestMatchers;
+import io.github.solaris.jaxrs.client.test.response.ResponseActions;
+import io.github.solaris.jaxrs.client.test.response.ResponseCreator;
+
+/**
+ * <p>Expectations loaded from a JSON file, declared on a {@link MockRestServer} via {@link MockRestServer#expectAll(Fixtures)}.</p>
+ * <p>
+ * Each fixture is found by its HTTP method and URI template through an index instead of being tried for every request,
+ * so thousands of fixtures cost no more per request than a few. Requests matching a fixture are answered by it
+ * regardless of the {@link RequestOrder}, before the expectations declared via {@link MockRestServer#expect(RequestMatcher)} are considered.
+ * Response bodies stored in separate files are only memory-mapped once they are first needed.
+ * A {@code Fixtures} instance is immutable and may be loaded once, e.g. into a static field, and declared on any amount of servers.
+ * </p>
+ * <pre><code>
+ *  {
+ *    "expectations": [
+ *      {
+ *        "request": {
+ *          "method": "GET",
+ *          "uri": "/users/{id}",
+ *          "headers": { "Accept": "application/json" },
+ *          "queryParams": { "expand": ["roles", "groups"] }
+ *        },
+ *        "response": {
+ *          "status": 200,
+ *          "headers": { "Content-Type": "application/json" },
+ *          "bodyFile": "users/42.json"
+ *        }
+ *      },
+ *      {
+ *        "request": { "method": "POST", "uri": "https://api.example.com/users", "jsonPath": { "$.name": "Jane" } },
+ *        "response": { "status": 201, "body": { "id": 43, "name": "Jane" } },
+ *        "count": { "min": 1, "max": 1 }
+ *      }
+ *    ]
+ *  }
+ * </code></pre>
+ * <p>
+ * {@code uri} is the path of the request, optionally prefixed by scheme and authority.
+ * Path segments in curly braces match any single segment. {@code headers}, {@code queryParams} and {@code jsonPath}
+ * are optional constraints that are checked like {@link RequestMatchers#header(String, String...)},
+ * {@link RequestMatchers#queryParam(String, String...)} and {@link RequestMatchers#jsonPath(String, Object...)}.
+ * The body of the response is either inline, where JSON objects and arrays default to {@code application/json},
+ * or a {@code bodyFile} relative to the fixture file. Without a {@code count}, a fixture may be called any amount of times.
+ * </p>
+ */
+public final class Fixtures {
+    private static final ExpectedCount ANY_TIMES = ExpectedCount.between(0, Integer.MAX_VALUE);
+
+    private final List<Fixture> fixtures;
+
+    Fixtures(List<Fixture> fixtures) {
+        this.fixtures = fixtures;
+    }
+
+    /**
+     * Load the fixtures from the given JSON file.
+     *
+     * @param file The fixture file
+     * @throws IOException If the file cannot be read
+     */
+    public static Fixtures load(Path file) throws IOException {
+        validateNotNull(file, "'file' must not be null.");
+        JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+        Object document = parse(file, jsonProvider);
+
+        List<Fixture> fixtures = new ArrayList<>();
+        List<?> expectations = list(object(document, "$").get("expectations"), "expectations");
+        for (int i = 0; i < expectations.size(); i++) {
+            String path = "expectations[" + i + "]";
+            fixtures.add(Fixture.parse(object(expectations.get(i), path), path, jsonProvider, file.toAbsolutePath()));
+        }
+        return new Fixtures(List.copyOf(fixtures));
+    }
+
+    /**
+     * Start compiling fixtures from the operations of an OpenAPI 3 document.
+     *
+     * @param file The OpenAPI document in JSON format
+     * @return A builder for the fixtures
+     */
+    public static OpenApiFixturesBuilder fromOpenApi(Path file) {
+        validateNotNull(file, "'file' must not be null.");
+        return new OpenApiFixturesBuilder(file);
+    }
+
+    /**
+     * The amount of fixtures.
+     */
+    public int size() {
+        return fixtures.size();
+    }
+
+    void declareOn(RequestExpectationManager expectationManager) {
+        for (Fixture fixture : fixtures) {
+            ResponseActions actions = expectationManager.expectIndexed(fixture.count(), fixture.method(), fixture.uriTemplate());
+            for (RequestMatcher matcher : fixture.matchers()) {
+                actions.andExpect(matcher);
+            }
+            actions.andRespond(fixture.responseCreator());
+        }
+    }
+
+    static Object parse(Path file, JsonProvider jsonProvider) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return jsonProvider.parse(in, UTF_8.name());
+        } catch (InvalidJsonException e) {
+            throw new IllegalArgumentException("'file' must contain valid JSON but was " + file, e);
+        }
+    }
+
+    static Map<?, ?> object(@Nullable Object value, String path) {
+        if (value instanceof Map<?, ?> map) {
+            return map;
+        }
+        throw new IllegalArgumentException("'" + path + "' must be a JSON object but was " + value);
+    }
+
+    static List<?> list(@Nullable Object value, String path) {
+        if (value instanceof List<?> list) {
+            return list;
+        }
+        throw new IllegalArgumentException("'" + path + "' must be a JSON array but was " + value);
+    }
+
+    static String string(@Nullable Object value, String path) {
+        if (value instanceof String string) {
+            return string;
+        }
+        throw new IllegalArgumentException("'" + path + "' must be a string but was " + value);
+    }
+
+    static int integer(@Nullable Object value, String path) {
+        if (value instanceof Integer integer) {
+            return integer;
+        }
+        throw new IllegalArgumentException("'" + path + "' must be an integer but was " + value);
+    }
+
+    /**
+     * A JSON object whose values are a single string or an array of strings.
+     */
+    static Map<String, List<String>> multiValued(@Nullable Object value, String path) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        if (value == null) {
+            return result;
+        }
+        for (Map.Entry<?, ?> entry : object(value, path).entrySet()) {
+            String name = String.valueOf(entry.getKey());
+            String valuePath = path + "." + name;
+            if (entry.getValue() instanceof List<?> values) {
+                List<String> strings = new ArrayList<>();
+                for (int i = 0; i < values.size(); i++) {
+                    strings.add(string(values.get(i), valuePath + "[" + i + "]"));
+                }
+                result.put(name, strings);
+            } else {
+                result.put(name, List.of(string(entry.getValue(), valuePath)));
+            }
+        }
+        return result;
+    }
+
+    record Fixture(ExpectedCount count, String method, String uriTemplate, List<RequestMatcher> matchers, ResponseCreator responseCreator) {
+
+        static Fixture parse(Map<?, ?> fixture, String path, JsonProvider jsonProvider, Path fixtureFile) {
+            Map<?, ?> request = object(fixture.get("request"), path + ".request");
+            String method = string(request.get("method"), path + ".request.method");
+            String uriTemplate = string(request.get("uri"), path + ".request.uri");
+            if (uriTemplate.indexOf('?') != -1 || uriTemplate.indexOf('#') != -1) {
+                throw new IllegalArgumentException("'" + path + ".request.uri' must not contain a query or fragment but was " + uriTemplate);
+            }
+
+            List<RequestMatcher> matchers = new ArrayList<>();
+            multiValued(request.get("headers"), path + ".request.headers")
+                    .forEach((name, values) -> matchers.add(RequestMatchers.header(name, values.toArray(new String[0]))));
+            multiValued(request.get("queryParams"), path + ".request.queryParams")
+                    .forEach((name, values) -> matchers.add(RequestMatchers.queryParam(name, values.toArray(new String[0]))));
+            if (request.get("jsonPath") != null) {
+                for (Map.Entry<?, ?> entry : object(request.get("jsonPath"), path + ".request.jsonPath").entrySet()) {
+                    matchers.add(RequestMatchers.jsonPath(String.valueOf(entry.getKey()).replace("%", "%%")).value(entry.getValue()));
+                }
+            }
+
+            ExpectedCount count = ANY_TIMES;
+            if (fixture.get("count") != null) {
+                Map<?, ?> range = object(fixture.get("count"), path + ".count");
+                count = ExpectedCount.between(integer(range.get("min"), path + ".count.min"), integer(range.get("max"), path + ".count.max"));
+            }
+
+            ResponseCreator responseCreator = FixtureResponse.parse(object(fixture.get("response"), path + ".response"),
+                    path + ".response", jsonProvider, fixtureFile);
+            return new Fixture(count, method, uriTemplate, List.copyOf(matchers), responseCreator);
+        }
+    }
+
+    record FixtureResponse(int status, Map<String, List<String>> headers, @Nullable Body body) implements ResponseCreator {
+
+        static FixtureResponse parse(Map<?, ?> response, String path, JsonProvider jsonProvider, Path fixtureFile) {
+            int status = response.get("status") != null ? integer(response.get("status"), path + ".status") : 200;
+            Map<String, List<String>> headers = multiValued(response.get("headers"), path + ".headers");
+
+            Body body = null;
+            Object inline = response.get("body");
+            if (inline instanceof String string) {
+                byte[] bytes = string.getBytes(UTF_8);
+                body = () -> new ByteArrayInputStream(bytes);
+            } else if (inline instanceof Map<?, ?> || inline instanceof List<?>) {
+                byte[] bytes = jsonProvider.toJson(inline).getBytes(UTF_8);
+                body = () -> new ByteArrayInputStream(bytes);
+                if (headers.keySet().stream().noneMatch(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase)) {
+                    headers.put(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON));
+                }
+            } else if (inline != null) {
+                throw new IllegalArgumentException("'" + path + ".body' must be a string, a JSON object or a JSON array but was " + inline);
+            } else if (response.get("bodyFile") != null) {
+                body = new MappedBody(fixtureFile.resolveSibling(string(response.get("bodyFile"), path + ".bodyFile")));
+            }
+            return new FixtureResponse(status, headers, body);
+        }
+
+        @Override
+        public Response createResponse(ClientRequestContext request) throws IOException {
+            Response.ResponseBuilder responseBuilder = Response.status(status);
+            headers.forEach((name, values) -> values.forEach(value -> responseBuilder.header(name, value)));
+            if (body != null) {
+                responseBuilder.entity(body.open());
+            }
+            return responseBuilder.build();
+        }
+    }
+
+    @FunctionalInterface
+    interface Body {
+
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A body file that is memory-mapped when it is first needed and shared by all responses.
+     */
+    private static final class MappedBody implements Body {
+        private final Path file;
+        private volatile @Nullable ByteBuffer content;
+
+        private MappedBody(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            ByteBuffer mapped = content;
+            if (mapped == null) {
+                // Concurrent first requests may map the file more than once, which is harmless
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+                content = mapped;
+            }
+            return new ByteBufferInputStream(mapped.duplicate());
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.ws.rs.core.AbstractMultivaluedMap;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jspecify.annotations.Nullable;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.solaris.jaxrs.client.test.internal.RequestContextStub;
+
+/**
+ * Presents a request received by a {@link LoopbackServer} as a {@link jakarta.ws.rs.client.ClientRequestContext ClientRequestContext},
+ * so it can be validated by the same {@link io.github.solaris.jaxrs.client.test.request.RequestMatcher RequestMatchers}
+ * and answered by the same {@link io.github.solaris.jaxrs.client.test.response.ResponseCreator ResponseCreators}
+ * as the requests intercepted by the {@link MockResponseFilter}. The entity is the received {@code byte[]}.
+ */
+final class LoopbackRequestContext implements RequestContextStub {
+    private final Map<String, Object> properties = new HashMap<>();
+    private final URI uri;
+    private final String method;
+    private final MultivaluedMap<String, Object> headers;
+
+    private @Nullable Object entity;
+
+    private LoopbackRequestContext(URI uri, String method, MultivaluedMap<String, Object> headers, @Nullable Object entity) {
+        this.uri = uri;
+        this.method = method;
+        this.headers = headers;
+        this.entity = entity;
+    }
+
+    static LoopbackRequestContext read(HttpExchange exchange, URI baseUri) throws IOException {
+        MultivaluedMap<String, Object> headers = caseInsensitiveMap();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        URI uri = URI.create((host != null ? "http://" + host : baseUri.toString()) + exchange.getRequestURI());
+
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        boolean hasEntity = body.length > 0 || headers.containsKey(CONTENT_TYPE);
+        return new LoopbackRequestContext(uri, exchange.getRequestMethod(), headers, hasEntity ? body : null);
+    }
+
+    @Override
+    public @Nullable Object getProperty(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public Collection<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    @Override
+    public void setProperty(String name, Object object) {
+        properties.put(name, object);
+    }
+
+    @Override
+    public void removeProperty(String name) {
+        properties.remove(name);
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getStringHeaders() {
+        MultivaluedMap<String, String> stringHeaders = caseInsensitiveMap();
+        headers.forEach((name, values) -> stringHeaders.put(name, values.stream().map(String::valueOf).toList()));
+        return stringHeaders;
+    }
+
+    @Override
+    public @Nullable String getHeaderString(String name) {
+        List<Object> values = headers.get(name);
+        return values == null ? null : values.stream().map(String::valueOf).collect(joining(","));
+    }
+
+    @Override
+    public boolean hasEntity() {
+        return entity != null;
+    }
+
+    @Override
+    public @Nullable Object getEntity() {
+        return entity;
+    }
+
+    @Override
+    public @Nullable Class<?> getEntityClass() {
+        return entity != null ? entity.getClass() : null;
+    }
+
+    @Override
+    public @Nullable Type getEntityType() {
+        return getEntityClass();
+    }
+
+    @Override
+    public @Nullable MediaType getMediaType() {
+        Object contentType = headers.getFirst(CONTENT_TYPE);
+        if (contentType != null) {
+            return MediaType.valueOf(contentType.toString());
+        }
+        return entity != null ? MediaType.APPLICATION_OCTET_STREAM_TYPE : null;
+    }
+
+    @Override
+    public void setEntity(Object entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public void setEntity(Object entity, Annotation[] annotations, MediaType mediaType) {
+        this.entity = entity;
+        headers.putSingle(CONTENT_TYPE, mediaType);
+    }
+
+    private static <V> MultivaluedMap<String, V> caseInsensitiveMap() {
+        return new AbstractMultivaluedMap<>(new TreeMap<>(String.CASE_INSENSITIVE_ORDER)) {};
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.jspecify.annotations.Nullable;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.solaris.jaxrs.client.test.internal.SerializingRequestContext;
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
+import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
+import io.github.solaris.jaxrs.client.test.request.ClientEntityConverter;
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+
+/**
+ * <p>Serves the expectations of a {@link MockRestServer} over HTTP from an in-process server bound to the loopback interface.</p>
+ * <p>
+ * {@link MockRestServer#bindTo(jakarta.ws.rs.core.Configurable)} answers requests from a filter before they are sent,
+ * so the connector, the serialization of the request entity, compression and connection pooling of the client never run.
+ * A {@code LoopbackServer} receives the requests like a remote service would, allowing the complete client stack to be tested
+ * or benchmarked, including clients that aren't JAX-RS components at all.
+ * </p>
+ * <p>The differences to a bound {@code MockRestServer} are:</p>
+ * <ul>
+ *     <li>The request entity is the received {@code byte[]}, which {@link EntityConverter} converts as usual</li>
+ *     <li>The request URI is absolute, built from the {@code Host} header, e.g. {@code http://127.0.0.1:51234/users}</li>
+ *     <li>
+ *         Unexpected requests are answered with status code 500 ({@link Status#INTERNAL_SERVER_ERROR INTERNAL_SERVER_ERROR})
+ *         and the failure message as the body, they fail {@link MockRestServer#verify()}
+ *     </li>
+ *     <li>An {@link IOException} thrown by a {@code ResponseCreator} closes the connection without a response</li>
+ *     <li>Response bodies are streamed to the client as they are read, in chunks unless a {@code Content-Length} is set</li>
+ * </ul>
+ * <pre><code>
+ * try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+ *     MockRestServer server = loopback.getMockRestServer();
+ *     server.expect(RequestMatchers.requestTo(loopback.getBaseUri().resolve("/users/1")))
+ *             .andRespond(MockResponseCreators.withSuccess(user, MediaType.APPLICATION_JSON_TYPE));
+ *
+ *     User user = ClientBuilder.newClient().target(loopback.getBaseUri()).path("users/1").request().get(User.class);
+ *
+ *     server.verify();
+ * }
+ * </code></pre>
+ */
+public final class LoopbackServer implements AutoCloseable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final HttpServer httpServer;
+    private final @Nullable ExecutorService ownedExecutor;
+    private final ServerBinding binding;
+    private final ConnectionTracker connections;
+    private final URI baseUri;
+    private final MockRestServer mockRestServer;
+    private final EntityConverter entityConverter;
+
+    private LoopbackServer(HttpServer httpServer, @Nullable ExecutorService ownedExecutor, ServerBinding binding, ConnectionTracker connections, Clock clock) {
+        this.httpServer = httpServer;
+        this.ownedExecutor = ownedExecutor;
+        this.binding = binding;
+        this.connections = connections;
+        this.baseUri = baseUri(httpServer.getAddress());
+        this.mockRestServer = new MockRestServer(binding, binding.current(), clock);
+        // Shared by all requests, so its Client is created once instead of per request
+        this.entityConverter = new ClientEntityConverter();
+    }
+
+    /**
+     * Create a {@link Builder} to configure and start a {@code LoopbackServer}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The base URI of the server, e.g. {@code http://127.0.0.1:51234}.
+     */
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * <p>The {@link MockRestServer} to declare and verify the expectations on.</p>
+     * <p>If it is replaced via {@link MockRestServer#rebind()}, the server answers the following requests from its replacement.</p>
+     */
+    public MockRestServer getMockRestServer() {
+        return mockRestServer;
+    }
+
+    /**
+     * Stop the server, closing all open connections.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // Read once, since the address may no longer be available after the exchange is closed
+        InetSocketAddress remoteAddress = exchange.getRemoteAddress();
+        connections.begin(remoteAddress);
+        try {
+            LoopbackRequestContext request = LoopbackRequestContext.read(exchange, baseUri);
+            if (request.getEntity() instanceof byte[] body) {
+                connections.received(body.length);
+            }
+            RequestExpectationManager expectationManager = binding.current();
+            request.setProperty(EntityConverter.class.getName(), entityConverter);
+            request.setProperty(Timeline.class.getName(), expectationManager.getTimeline());
+
+            Response response;
+            try {
+                response = expectationManager.validateRequest(request);
+            } catch (AssertionError | RuntimeException e) {
+                sendFailure(exchange, e);
+                return;
+            }
+
+            try (response) {
+                send(exchange, request, response);
+            }
+        } finally {
+            exchange.close();
+            connections.end(remoteAddress);
+        }
+    }
+
+    private void sendFailure(HttpExchange exchange, Throwable failure) throws IOException {
+        byte[] message = String.valueOf(failure.getMessage()).getBytes(UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, MediaType.TEXT_PLAIN_TYPE.withCharset(UTF_8.name()).toString());
+        exchange.sendResponseHeaders(Status.INTERNAL_SERVER_ERROR.getStatusCode(), message.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(message);
+        }
+        connections.sent(message.length);
+    }
+
+    private void send(HttpExchange exchange, LoopbackRequestContext request, Response response) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        response.getStringHeaders().forEach(headers::put);
+        String contentLength = headers.getFirst(CONTENT_LENGTH);
+        headers.remove(CONTENT_LENGTH);
+
+        InputStream body = body(response);
+        int status = response.getStatus();
+        if (body == null || HttpMethod.HEAD.equals(request.getMethod()) || status == 204 || status == 304) {
+            if (body != null) {
+                body.close();
+            }
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        // A length of 0 means chunked for the HttpServer, so an empty fixed length body is sent without one
+        long length = contentLength != null ? Long.parseLong(contentLength) : 0;
+        exchange.sendResponseHeaders(status, contentLength != null && length == 0 ? -1 : length);
+        try (body; OutputStream out = exchange.getResponseBody()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+                connections.sent(read);
+            }
+        }
+    }
+
+    private @Nullable InputStream body(Response response) throws IOException {
+        if (!response.hasEntity()) {
+            return null;
+        }
+
+        Object entity;
+        try {
+            entity = response.getEntity();
+        } catch (IllegalStateException e) {
+            // Inbound responses, e.g. from an ExecutingResponseCreator
+            return response.readEntity(InputStream.class);
+        }
+
+        if (entity instanceof InputStream stream) {
+            return stream;
+        }
+        return entityConverter.convertEntity(new SerializingRequestContext(response), InputStream.class);
+    }
+
+    private static URI baseUri(InetSocketAddress address) {
+        try {
+            return new URI("http", null, address.getAddress().getHostAddress(), address.getPort(), null, null, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builder to configure and start a {@link LoopbackServer}.
+     */
+    public static final class Builder {
+        private RequestOrder order = RequestOrder.ORDERED;
+        private @Nullable VirtualClock clock;
+        private @Nullable Executor executor;
+        private int port;
+        private long maxConnections = Long.MAX_VALUE;
+
+        private Builder() {}
+
+        /**
+         * Set the desired {@link RequestOrder}. Defaults to {@link RequestOrder#ORDERED ORDERED}.
+         *
+         * @param order The request ordering
+         */
+        public Builder withRequestOrder(RequestOrder order) {
+            validateNotNull(order, "'order' must not be null.");
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * Use a {@link VirtualClock} for all simulated delays instead of the system's time.
+         *
+         * @param clock The clock
+         */
+        public Builder withClock(VirtualClock clock) {
+            validateNotNull(clock, "'clock' must not be null.");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Listen on the given port instead of a free port chosen by the operating system.
+         *
+         * @param port The port, {@code 0} to choose a free port
+         */
+        public Builder withPort(int port) {
+            if (port < 0) {
+                throw new IllegalArgumentException("'port' must not be negative.");
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * <p>Handle the requests on the given {@link Executor}, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}.</p>
+         * <p>Defaults to a thread per concurrent connection that is shut down when the server is closed.</p>
+         *
+         * @param executor The executor, which isn't shut down when the server is closed
+         */
+        public Builder withExecutor(Executor executor) {
+            validateNotNull(executor, "'executor' must not be null.");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * <p>Let {@link MockRestServer#verify()} fail if the client opened more than the given amount of connections.</p>
+         * <p>
+         * This detects clients that don't reuse their connections, e.g. because responses aren't closed or connection pooling is disabled.
+         * Connections are counted across {@link MockRestServer#rebind()}.
+         * </p>
+         *
+         * @param maxConnections The highest expected amount of connections
+         * @see MockRestServer#getConnectionMetrics()
+         */
+        public Builder expectMaxConnections(int maxConnections) {
+            if (maxConnections < 1) {
+                throw new IllegalArgumentException("'maxConnections' must be positive.");
+            }
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Start the {@link LoopbackServer}.
+         *
+         * @return The running server
+         * @throws IOException If the server can't be bound to the port
+         */
+        public LoopbackServer start() throws IOException {
+            RequestOrder requestOrder = order;
+            VirtualClock virtualClock = clock;
+            ConnectionTracker connections = new ConnectionTracker(maxConnections);
+            ServerBinding binding = new ServerBinding(() -> MockRestServerBuilder.newExpectationManager(requestOrder, virtualClock), connections);
+
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            ExecutorService ownedExecutor = executor == null ? newCachedThreadPool() : null;
+            httpServer.setExecutor(executor != null ? executor : ownedExecutor);
+
+            Clock serverClock = virtualClock != null ? virtualClock : Clock.systemUTC();
+            LoopbackServer server = new LoopbackServer(httpServer, ownedExecutor, binding, connections, serverClock);
+            httpServer.createContext("/", server::handle);
+            httpServer.start();
+            return server;
+        }
+
+        private static ExecutorService newCachedThreadPool() {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "jaxrs-client-test-loopback-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
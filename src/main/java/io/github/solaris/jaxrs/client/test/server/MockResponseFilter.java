@@ -17,6 +17,7 @@ import jakarta.ws.rs.ext.Providers;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.solaris.jaxrs.client.test.internal.Timeline;
 import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.request.ClientEntityConverter;
 import io.github.solaris.jaxrs.client.test.request.EntityConverter;
@@ -48,7 +49,16 @@ public final class MockResponseFilter implements ClientRequestFilter {
         requestContext.setProperty(EntityConverter.class.getName(), converter);
 
         Object property = requestContext.getConfiguration().getProperty(RequestExpectationManager.class.getName());
+        if (property instanceof ServerRouter router) {
+            ServerBinding binding = router.route(requestContext.getUri());
+            if (binding == null) {
+                throw new AssertionError("No MockRestServer is bound to the base URI of the request: HTTP "
+                        + requestContext.getMethod() + " " + requestContext.getUri());
+            }
+            property = binding.current();
+        }
         if (property instanceof RequestExpectationManager expectationManager) {
+            requestContext.setProperty(Timeline.class.getName(), expectationManager.getTimeline());
             requestContext.abortWith(
                     expectationManager.validateRequest(requestContext)
             );
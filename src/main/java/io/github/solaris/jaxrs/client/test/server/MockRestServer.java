@@ -2,6 +2,7 @@ package io.github.solaris.jaxrs.client.test.server;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import jakarta.ws.rs.core.Configurable;
@@ -60,10 +61,14 @@ import io.github.solaris.jaxrs.client.test.response.ResponseActions;
  * </code></pre>
  */
 public final class MockRestServer {
+    private final ServerBinding binding;
     private final RequestExpectationManager expectationManager;
+    private final Clock clock;
 
-    MockRestServer(RequestExpectationManager expectationManager) {
+    MockRestServer(ServerBinding binding, RequestExpectationManager expectationManager, Clock clock) {
+        this.binding = binding;
         this.expectationManager = expectationManager;
+        this.clock = clock;
     }
 
     /**
@@ -105,24 +110,89 @@ public final class MockRestServer {
      * </p>
      */
     public ResponseActions expect(ExpectedCount count, RequestMatcher matcher) {
+        validateCurrent();
         return expectationManager.expectRequest(count, matcher);
     }
 
+    /**
+     * <p>Set up the expectations of the given {@link Fixtures}.</p>
+     * <p>
+     * Requests matching a fixture are answered by it regardless of the {@link RequestOrder},
+     * before the expectations declared via {@link #expect(RequestMatcher)} are considered.
+     * Fixtures with a {@code count} are verified by {@link #verify()} like all other expectations.
+     * </p>
+     *
+     * @param fixtures The fixtures
+     */
+    public void expectAll(Fixtures fixtures) {
+        validateNotNull(fixtures, "'fixtures' must not be null.");
+        validateCurrent();
+        fixtures.declareOn(expectationManager);
+    }
+
+    /**
+     * <p>Set up the expectations of the given {@link ExpectationSet} with fresh counters.</p>
+     * <p>
+     * The expectations are declared in the order they were added to the set,
+     * as if each had been declared via {@link #expect(ExpectedCount, RequestMatcher)}.
+     * </p>
+     *
+     * @param expectationSet The expectations
+     */
+    public void expectAll(ExpectationSet expectationSet) {
+        validateNotNull(expectationSet, "'expectationSet' must not be null.");
+        validateCurrent();
+        expectationSet.declareOn(expectationManager);
+    }
+
     /**
      * Verify that all the set-up request expectations were satisfied.
+     * <p>The server of a {@link LoopbackServer} also verifies that the client opened no more connections than expected.</p>
+     *
+     * @see LoopbackServer.Builder#expectMaxConnections(int)
      */
     public void verify() {
         expectationManager.verify();
+        verifyConnections();
     }
 
     /**
      * Verify that all the set-up request expectations were satisfied in the given {@link Duration}.
      * Intended for scenarios involving asynchronous requests.
+     * <p>The timeout always passes in real time, a {@link VirtualClock} of the server is never advanced.</p>
      *
      * @param timeout How long to wait for all expectations to be satisfied
      */
     public void verify(Duration timeout) {
         expectationManager.verify(timeout);
+        verifyConnections();
+    }
+
+    /**
+     * The {@link Clock} used by the server, either the {@link VirtualClock} set via {@link MockRestServerBuilder#withClock(VirtualClock)}
+     * or the system clock in {@code UTC}. Can be shared with the code under test.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * <p>The connections the client opened to the {@link LoopbackServer} that serves this server.</p>
+     * <p>
+     * The connections are counted since the {@code LoopbackServer} was started, including those of servers replaced via {@link #rebind()},
+     * since a client keeps its connections when the server is replaced.
+     * </p>
+     *
+     * @return A snapshot of the connection metrics
+     * @throws IllegalStateException If this server isn't served by a {@code LoopbackServer}
+     * @see LoopbackServer.Builder#expectMaxConnections(int)
+     */
+    public ConnectionMetrics getConnectionMetrics() {
+        ConnectionTracker connections = binding.connections();
+        if (connections == null) {
+            throw new IllegalStateException("Connection metrics are only available for the MockRestServer of a LoopbackServer.");
+        }
+        return connections.snapshot();
     }
 
     /**
@@ -131,4 +201,43 @@ public final class MockRestServer {
     public void reset() {
         expectationManager.reset();
     }
+
+    /**
+     * <p>Replace this server by a fresh one that is bound to the same JAX-RS client component, without reconfiguring it.</p>
+     * <p>
+     * This allows a long-lived client to be reused across tests at the cost of swapping a reference,
+     * instead of creating a new client and {@code MockRestServer} for every test.
+     * The new server has the same {@link RequestOrder} and {@link VirtualClock}, but no expectations.
+     * Requests that already reached this server, e.g. asynchronous requests of a previous test that are still in flight,
+     * are completed and recorded by this server and never count towards the new one.
+     * Further expectations can no longer be declared on this server.
+     * </p>
+     * <pre><code>
+     * private static final Client CLIENT = ClientBuilder.newClient();
+     * private static MockRestServer server = MockRestServer.bindTo(CLIENT).build();
+     *
+     * &#64;BeforeEach
+     * void rebind() {
+     *     server = server.rebind();
+     * }
+     * </code></pre>
+     *
+     * @return The new server
+     */
+    public MockRestServer rebind() {
+        return new MockRestServer(binding, binding.renew(), clock);
+    }
+
+    private void verifyConnections() {
+        ConnectionTracker connections = binding.connections();
+        if (connections != null) {
+            connections.verify();
+        }
+    }
+
+    private void validateCurrent() {
+        if (binding.current() != expectationManager) {
+            throw new IllegalStateException("Cannot declare expectations on a MockRestServer that was replaced via rebind().");
+        }
+    }
 }
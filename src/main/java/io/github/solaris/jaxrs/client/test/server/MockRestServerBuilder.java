@@ -2,8 +2,13 @@ package io.github.solaris.jaxrs.client.test.server;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
+import java.net.URI;
+import java.time.Clock;
+
 import jakarta.ws.rs.core.Configurable;
 
+import org.jspecify.annotations.Nullable;
+
 import io.github.solaris.jaxrs.client.test.manager.OrderedRequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.manager.StrictlyOrderedRequestExpectationManager;
@@ -16,6 +21,8 @@ public class MockRestServerBuilder {
     private final Configurable<?> configurable;
 
     private RequestOrder order = RequestOrder.ORDERED;
+    private @Nullable VirtualClock clock;
+    private @Nullable URI baseUri;
 
     MockRestServerBuilder(Configurable<?> configurable) {
         this.configurable = configurable;
@@ -32,23 +39,71 @@ public class MockRestServerBuilder {
         return this;
     }
 
+    /**
+     * Use a {@link VirtualClock} for all simulated delays instead of the system's time.
+     *
+     * @param clock The clock
+     */
+    public MockRestServerBuilder withClock(VirtualClock clock) {
+        validateNotNull(clock, "'clock' must not be null.");
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * <p>Only handle the requests to the given base URI, i.e. its scheme, host, port and path prefix.</p>
+     * <p>
+     * This allows a single JAX-RS client component that calls several upstream services to be bound to one {@code MockRestServer}
+     * per upstream, each with its own expectations, {@link RequestOrder} and verification.
+     * Requests that match no base URI are handled by the server that was bound without one.
+     * </p>
+     * <pre><code>
+     * MockRestServer users = MockRestServer.bindTo(client).withBaseUri(URI.create("https://users.example.com")).build();
+     * MockRestServer orders = MockRestServer.bindTo(client).withBaseUri(URI.create("https://api.example.com/orders")).build();
+     * </code></pre>
+     *
+     * @param baseUri The absolute base URI
+     */
+    public MockRestServerBuilder withBaseUri(URI baseUri) {
+        validateNotNull(baseUri, "'baseUri' must not be null.");
+        if (baseUri.getScheme() == null || baseUri.getHost() == null) {
+            throw new IllegalArgumentException("'baseUri' must be absolute but was " + baseUri);
+        }
+        this.baseUri = baseUri;
+        return this;
+    }
+
     /**
      * Build the {@link MockRestServer} with the given request ordering and bind the given JAX-RS component to it.
      *
      * @return The {@code MockRestServer}
      */
     public MockRestServer build() {
+        RequestOrder requestOrder = order;
+        VirtualClock virtualClock = clock;
+        ServerBinding binding = new ServerBinding(() -> newExpectationManager(requestOrder, virtualClock));
+
+        if (!configurable.getConfiguration().isRegistered(MockResponseFilter.class)) {
+            configurable.register(MockResponseFilter.class, Integer.MAX_VALUE);
+        }
+        Object property = configurable.getConfiguration().getProperty(RequestExpectationManager.class.getName());
+        ServerRouter router = property instanceof ServerRouter existing ? existing : ServerRouter.EMPTY;
+        configurable.property(RequestExpectationManager.class.getName(), baseUri != null
+                ? router.withRoute(baseUri, binding)
+                : router.withDefault(binding));
+
+        return new MockRestServer(binding, binding.current(), virtualClock != null ? virtualClock : Clock.systemUTC());
+    }
+
+    static RequestExpectationManager newExpectationManager(RequestOrder order, @Nullable VirtualClock clock) {
         RequestExpectationManager expectationManager = switch (order) {
             case ORDERED -> new OrderedRequestExpectationManager();
             case UNORDERED -> new UnorderedRequestExpectationManager();
             case STRICT -> new StrictlyOrderedRequestExpectationManager();
         };
-
-        if (!configurable.getConfiguration().isRegistered(MockResponseFilter.class)) {
-            configurable.register(MockResponseFilter.class, Integer.MAX_VALUE);
+        if (clock != null) {
+            expectationManager.setTimeline(clock.getTimeline());
         }
-        configurable.property(RequestExpectationManager.class.getName(), expectationManager);
-
-        return new MockRestServer(expectationManager);
+        return expectationManager;
     }
 }
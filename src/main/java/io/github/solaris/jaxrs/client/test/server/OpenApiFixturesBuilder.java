@@ -0,0 +1,284 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static io.github.solaris.jaxrs.client.test.server.Fixtures.list;
+import static io.github.solaris.jaxrs.client.test.server.Fixtures.object;
+import static io.github.solaris.jaxrs.client.test.server.Fixtures.string;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jspecify.annotations.Nullable;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+import io.github.solaris.jaxrs.client.test.request.RequestMatchers;
+import io.github.solaris.jaxrs.client.test.server.Fixtures.Body;
+import io.github.solaris.jaxrs.client.test.server.Fixtures.Fixture;
+import io.github.solaris.jaxrs.client.test.server.Fixtures.FixtureResponse;
+
+/**
+ * <p>Builder to compile {@link Fixtures} from the operations of an OpenAPI 3 document in JSON format.</p>
+ * <p>
+ * Every operation becomes a fixture that expects its HTTP method and path template, prefixed by the path of the first server,
+ * as well as the presence of its required query parameters, headers and request body.
+ * It is answered by the lowest declared {@code 2xx} response (or the {@code default} response),
+ * using the {@code example}, the first of the {@code examples} or the {@code example} of the schema of its first JSON media type.
+ * Local {@code $ref}s to the {@code components} are resolved.
+ * </p>
+ * <p>
+ * Compiling a large document takes a moment, so the resulting {@code Fixtures} are best kept in a static field
+ * and declared on every server that needs them.
+ * </p>
+ * <pre><code>
+ * private static final Fixtures PETSTORE = Fixtures.fromOpenApi(Path.of("src/test/resources/petstore.json")).build();
+ * </code></pre>
+ */
+public final class OpenApiFixturesBuilder {
+    private static final List<String> METHODS = List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+
+    private final Path file;
+
+    private @Nullable String basePath;
+    private ExpectedCount count = ExpectedCount.between(0, Integer.MAX_VALUE);
+
+    OpenApiFixturesBuilder(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Set the path that prefixes the path of every operation. Defaults to the path of the first entry in {@code servers}.
+     *
+     * @param basePath The base path, e.g. {@code /api/v1}
+     */
+    public OpenApiFixturesBuilder basePath(String basePath) {
+        validateNotNull(basePath, "'basePath' must not be null.");
+        this.basePath = basePath;
+        return this;
+    }
+
+    /**
+     * Set the amount of times each operation is expected. Defaults to any amount of times.
+     *
+     * @param count The expected count of every operation
+     */
+    public OpenApiFixturesBuilder count(ExpectedCount count) {
+        validateNotNull(count, "'count' must not be null.");
+        this.count = count;
+        return this;
+    }
+
+    /**
+     * Read the document and compile its operations into {@link Fixtures}.
+     *
+     * @throws IOException If the document cannot be read
+     */
+    public Fixtures build() throws IOException {
+        JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+        Map<?, ?> document = object(Fixtures.parse(file, jsonProvider), "$");
+        String version = string(document.get("openapi"), "openapi");
+        if (!version.startsWith("3.")) {
+            throw new IllegalArgumentException("'openapi' must be a 3.x version but was " + version);
+        }
+
+        Compiler compiler = new Compiler(document, jsonProvider);
+        String prefix = trimTrailingSlash(basePath != null ? basePath : compiler.serverPath());
+        List<Fixture> fixtures = new ArrayList<>();
+        Object paths = document.get("paths");
+        if (paths != null) {
+            for (Map.Entry<?, ?> entry : object(paths, "paths").entrySet()) {
+                String template = String.valueOf(entry.getKey());
+                String itemPath = "paths." + template;
+                Map<?, ?> item = compiler.resolve(entry.getValue(), itemPath);
+                for (String method : METHODS) {
+                    if (item.get(method) != null) {
+                        String operationPath = itemPath + "." + method;
+                        Map<?, ?> operation = compiler.resolve(item.get(method), operationPath);
+                        fixtures.add(new Fixture(count, method.toUpperCase(Locale.ROOT), prefix + template,
+                                compiler.matchers(item, operation, operationPath), compiler.response(operation, operationPath)));
+                    }
+                }
+            }
+        }
+        return new Fixtures(List.copyOf(fixtures));
+    }
+
+    private static String trimTrailingSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private record Compiler(Map<?, ?> document, JsonProvider jsonProvider) {
+
+        String serverPath() {
+            Object servers = document.get("servers");
+            if (servers == null || list(servers, "servers").isEmpty()) {
+                return "";
+            }
+
+            Map<?, ?> server = object(list(servers, "servers").get(0), "servers[0]");
+            String url = string(server.get("url"), "servers[0].url");
+            if (server.get("variables") != null) {
+                for (Map.Entry<?, ?> variable : object(server.get("variables"), "servers[0].variables").entrySet()) {
+                    String variablePath = "servers[0].variables." + variable.getKey();
+                    String defaultValue = string(object(variable.getValue(), variablePath).get("default"), variablePath + ".default");
+                    url = url.replace("{" + variable.getKey() + "}", defaultValue);
+                }
+            }
+
+            int schemeEnd = url.indexOf("://");
+            if (schemeEnd == -1) {
+                return url;
+            }
+            int pathStart = url.indexOf('/', schemeEnd + 3);
+            return pathStart == -1 ? "" : url.substring(pathStart);
+        }
+
+        List<RequestMatcher> matchers(Map<?, ?> item, Map<?, ?> operation, String path) {
+            // Parameters of the operation override those of the path item with the same name and location
+            Map<String, Map<?, ?>> parameters = new LinkedHashMap<>();
+            for (Map<?, ?> parameter : parameters(item.get("parameters"), path.substring(0, path.lastIndexOf('.')) + ".parameters")) {
+                parameters.put(parameter.get("in") + ":" + parameter.get("name"), parameter);
+            }
+            for (Map<?, ?> parameter : parameters(operation.get("parameters"), path + ".parameters")) {
+                parameters.put(parameter.get("in") + ":" + parameter.get("name"), parameter);
+            }
+
+            List<RequestMatcher> matchers = new ArrayList<>();
+            for (Map<?, ?> parameter : parameters.values()) {
+                if (Boolean.TRUE.equals(parameter.get("required"))) {
+                    String name = String.valueOf(parameter.get("name"));
+                    if ("query".equals(parameter.get("in"))) {
+                        matchers.add(RequestMatchers.queryParam(name));
+                    } else if ("header".equals(parameter.get("in"))) {
+                        matchers.add(RequestMatchers.header(name));
+                    }
+                }
+            }
+
+            if (operation.get("requestBody") != null) {
+                Map<?, ?> requestBody = resolve(operation.get("requestBody"), path + ".requestBody");
+                if (Boolean.TRUE.equals(requestBody.get("required"))) {
+                    matchers.add(request -> {
+                        if (!request.hasEntity()) {
+                            throw new AssertionError("Expected a request entity but there was none");
+                        }
+                    });
+                }
+            }
+            return matchers;
+        }
+
+        FixtureResponse response(Map<?, ?> operation, String path) {
+            Map<?, ?> responses = object(operation.get("responses"), path + ".responses");
+            String code = responses.keySet().stream()
+                    .map(String::valueOf)
+                    .filter(key -> key.matches("2\\d\\d"))
+                    .min(Comparator.naturalOrder())
+                    .orElse(responses.containsKey("2XX") ? "2XX" : "default");
+
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            if (!responses.containsKey(code)) {
+                return new FixtureResponse(200, headers, null);
+            }
+
+            String responsePath = path + ".responses." + code;
+            Map<?, ?> response = resolve(responses.get(code), responsePath);
+            if (response.get("headers") != null) {
+                for (Map.Entry<?, ?> entry : object(response.get("headers"), responsePath + ".headers").entrySet()) {
+                    Object example = example(resolve(entry.getValue(), responsePath + ".headers." + entry.getKey()), responsePath);
+                    if (example != null) {
+                        headers.put(String.valueOf(entry.getKey()), List.of(String.valueOf(example)));
+                    }
+                }
+            }
+
+            Body body = null;
+            if (response.get("content") != null) {
+                Map<?, ?> content = object(response.get("content"), responsePath + ".content");
+                String mediaType = content.keySet().stream()
+                        .map(String::valueOf)
+                        .filter(type -> type.contains("json"))
+                        .findFirst()
+                        .orElse(content.isEmpty() ? null : String.valueOf(content.keySet().iterator().next()));
+                if (mediaType != null) {
+                    Object example = example(object(content.get(mediaType), responsePath + ".content." + mediaType), responsePath);
+                    if (example != null) {
+                        byte[] bytes = (example instanceof String string && !mediaType.contains("json") ? string : jsonProvider.toJson(example))
+                                .getBytes(UTF_8);
+                        body = () -> new ByteArrayInputStream(bytes);
+                        headers.put(HttpHeaders.CONTENT_TYPE, List.of(mediaType));
+                    }
+                }
+            }
+
+            int status = code.matches("\\d{3}") ? Integer.parseInt(code) : 200;
+            return new FixtureResponse(status, headers, body);
+        }
+
+        /**
+         * The example of a media type, parameter or header object.
+         */
+        private @Nullable Object example(Map<?, ?> holder, String path) {
+            if (holder.get("example") != null) {
+                return holder.get("example");
+            }
+            if (holder.get("examples") != null) {
+                Map<?, ?> examples = object(holder.get("examples"), path + ".examples");
+                if (!examples.isEmpty()) {
+                    return resolve(examples.values().iterator().next(), path + ".examples").get("value");
+                }
+            }
+            if (holder.get("schema") != null) {
+                return resolve(holder.get("schema"), path + ".schema").get("example");
+            }
+            return null;
+        }
+
+        private List<Map<?, ?>> parameters(@Nullable Object parameters, String path) {
+            List<Map<?, ?>> resolved = new ArrayList<>();
+            if (parameters != null) {
+                List<?> list = list(parameters, path);
+                for (int i = 0; i < list.size(); i++) {
+                    resolved.add(resolve(list.get(i), path + "[" + i + "]"));
+                }
+            }
+            return resolved;
+        }
+
+        /**
+         * The given object, or the object it references through a local {@code $ref}.
+         */
+        Map<?, ?> resolve(@Nullable Object value, String path) {
+            Map<?, ?> object = object(value, path);
+            for (int depth = 0; object.get("$ref") != null; depth++) {
+                String ref = string(object.get("$ref"), path + ".$ref");
+                if (!ref.startsWith("#/") || depth == 16) {
+                    throw new IllegalArgumentException("'" + path + ".$ref' must be a resolvable local reference but was " + ref);
+                }
+
+                Object target = document;
+                for (String token : ref.substring(2).split("/")) {
+                    target = target instanceof Map<?, ?> map ? map.get(token.replace("~1", "/").replace("~0", "~")) : null;
+                }
+                if (target == null) {
+                    throw new IllegalArgumentException("'" + path + ".$ref' must be a resolvable local reference but was " + ref);
+                }
+                object = object(target, ref);
+            }
+            return object;
+        }
+    }
+}
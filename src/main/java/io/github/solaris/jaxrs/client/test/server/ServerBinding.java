@@ -0,0 +1,49 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
+
+/**
+ * <p>The slot through which a JAX-RS client component finds the {@link RequestExpectationManager} of its current {@link MockRestServer}.</p>
+ * <p>
+ * It is stored in the configuration of the component once, via a {@link ServerRouter}, so that {@link MockRestServer#rebind()} only has to swap the manager
+ * instead of changing the configuration. Each request is validated by the manager that was current when it reached the
+ * {@link MockResponseFilter}, so requests still in flight from a replaced server never touch its successor.
+ * </p>
+ */
+final class ServerBinding {
+    private final Supplier<RequestExpectationManager> managerFactory;
+    private final @Nullable ConnectionTracker connections;
+
+    private volatile RequestExpectationManager current;
+
+    ServerBinding(Supplier<RequestExpectationManager> managerFactory) {
+        this(managerFactory, null);
+    }
+
+    ServerBinding(Supplier<RequestExpectationManager> managerFactory, @Nullable ConnectionTracker connections) {
+        this.managerFactory = managerFactory;
+        this.connections = connections;
+        this.current = managerFactory.get();
+    }
+
+    RequestExpectationManager current() {
+        return current;
+    }
+
+    /**
+     * The connections of the {@link LoopbackServer} serving the bound servers, which outlive {@link #renew()} like the connections of a client do.
+     */
+    @Nullable ConnectionTracker connections() {
+        return connections;
+    }
+
+    RequestExpectationManager renew() {
+        RequestExpectationManager next = managerFactory.get();
+        current = next;
+        return next;
+    }
+}
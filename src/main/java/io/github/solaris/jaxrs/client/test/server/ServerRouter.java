@@ -0,0 +1,84 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>Routes the requests of a JAX-RS client component to the {@link ServerBinding} of the {@link MockRestServer} bound to their base URI.</p>
+ * <p>
+ * Routes are looked up by scheme, host and port, then by the longest matching base path.
+ * Requests without a matching route go to the server that was bound without a base URI, if any.
+ * Instances are immutable, adding a route creates a copy, so that components sharing a configuration
+ * (e.g. a {@code WebTarget} and the {@code Client} that created it) are not affected by routes added to the other.
+ * </p>
+ */
+final class ServerRouter {
+    static final ServerRouter EMPTY = new ServerRouter(null, Map.of());
+
+    private final @Nullable ServerBinding defaultBinding;
+    private final Map<String, List<Route>> routes;
+
+    private ServerRouter(@Nullable ServerBinding defaultBinding, Map<String, List<Route>> routes) {
+        this.defaultBinding = defaultBinding;
+        this.routes = routes;
+    }
+
+    ServerRouter withDefault(ServerBinding binding) {
+        return new ServerRouter(binding, routes);
+    }
+
+    ServerRouter withRoute(URI baseUri, ServerBinding binding) {
+        String basePath = trimTrailingSlash(baseUri.getRawPath() == null ? "" : baseUri.getRawPath());
+        Map<String, List<Route>> copy = new HashMap<>(routes);
+        List<Route> originRoutes = new ArrayList<>(copy.getOrDefault(origin(baseUri), List.of()));
+        originRoutes.removeIf(route -> route.basePath().equals(basePath));
+        originRoutes.add(new Route(basePath, binding));
+        originRoutes.sort(Comparator.comparingInt((Route route) -> route.basePath().length()).reversed());
+        copy.put(origin(baseUri), List.copyOf(originRoutes));
+        return new ServerRouter(defaultBinding, Map.copyOf(copy));
+    }
+
+    @Nullable ServerBinding route(URI uri) {
+        if (!routes.isEmpty() && uri.getScheme() != null && uri.getHost() != null) {
+            List<Route> originRoutes = routes.get(origin(uri));
+            if (originRoutes != null) {
+                String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+                for (Route route : originRoutes) {
+                    if (route.matches(path)) {
+                        return route.binding();
+                    }
+                }
+            }
+        }
+        return defaultBinding;
+    }
+
+    private static String origin(URI uri) {
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equals(scheme) ? 443 : 80;
+        }
+        return scheme + "://" + String.valueOf(uri.getHost()).toLowerCase(Locale.ROOT) + ":" + port;
+    }
+
+    private static String trimTrailingSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private record Route(String basePath, ServerBinding binding) {
+
+        boolean matches(String path) {
+            return basePath.isEmpty()
+                    || path.equals(basePath)
+                    || path.startsWith(basePath) && path.charAt(basePath.length()) == '/';
+        }
+    }
+}
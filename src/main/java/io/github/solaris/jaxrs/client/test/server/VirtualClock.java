@@ -0,0 +1,148 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.VirtualTimeline;
+
+/**
+ * <p>A {@link Clock} that only moves forward when explicitly advanced.</p>
+ * <p>
+ * When bound to a {@link MockRestServer} via {@link MockRestServerBuilder#withClock(VirtualClock)},
+ * all simulated delays, e.g. from {@link io.github.solaris.jaxrs.client.test.response.MockResponseCreator#delay(Duration)
+ * MockResponseCreator.delay(Duration)}, use the virtual time, allowing tests to simulate long latencies without waiting for them.
+ * Since it is a regular {@code Clock}, it can also be passed to the code under test.
+ * </p>
+ * <pre><code>
+ *  VirtualClock clock = VirtualClock.create();
+ *  MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+ *
+ *  server.expect(requestTo("/slow")).andRespond(withSuccess().delay(Duration.ofMinutes(5)));
+ *
+ *  Future&lt;Response&gt; response = client.target("/slow").request().async().get();
+ *  clock.awaitPendingDelays(1, Duration.ofSeconds(1));
+ *  clock.advance(Duration.ofMinutes(5)); // completes the response immediately
+ * </code></pre>
+ */
+public final class VirtualClock extends Clock {
+    private final VirtualTimeline timeline;
+    private final Instant origin;
+    private final ZoneId zone;
+
+    private VirtualClock(VirtualTimeline timeline, Instant origin, ZoneId zone) {
+        this.timeline = timeline;
+        this.origin = origin;
+        this.zone = zone;
+    }
+
+    /**
+     * Create a {@code VirtualClock} that starts at the current system time in {@code UTC}.
+     */
+    public static VirtualClock create() {
+        return startingAt(Instant.now());
+    }
+
+    /**
+     * Create a {@code VirtualClock} that starts at the given {@link Instant} in {@code UTC}.
+     *
+     * @param start The initial time of the clock
+     */
+    public static VirtualClock startingAt(Instant start) {
+        validateNotNull(start, "'start' must not be null.");
+        return new VirtualClock(new VirtualTimeline(start), start, ZoneOffset.UTC);
+    }
+
+    /**
+     * Move the clock forward, completing all simulated delays that end within the given {@link Duration} in chronological order.
+     *
+     * @param duration How far to advance the clock
+     */
+    public void advance(Duration duration) {
+        validateNotNull(duration, "'duration' must not be null.");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'duration' must not be negative.");
+        }
+        timeline.advance(duration.toNanos());
+    }
+
+    /**
+     * The amount of simulated delays currently waiting for the clock to advance.
+     */
+    public int getPendingDelays() {
+        return timeline.getWaiting();
+    }
+
+    /**
+     * <p>Wait in <b>real time</b> until at least the given amount of simulated delays are waiting for the clock to advance.</p>
+     * <p>Intended for asynchronous requests that may not have reached their delay yet when the test advances the clock.</p>
+     *
+     * @param count   The minimum amount of pending delays
+     * @param timeout How long to wait in real time
+     * @throws AssertionError If the delays are still missing after the timeout
+     */
+    public void awaitPendingDelays(int count, Duration timeout) {
+        validateNotNull(timeout, "'timeout' must not be null.");
+        try {
+            if (!timeline.awaitWaiting(count, timeout.toNanos())) {
+                throw new AssertionError("Expected " + count + " pending delay(s) but found " + timeline.getWaiting() + ".");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for " + count + " pending delay(s).", e);
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a copy of this clock with a different time-zone that shares the virtual time with this clock.
+     */
+    @Override
+    public VirtualClock withZone(ZoneId zone) {
+        validateNotNull(zone, "'zone' must not be null.");
+        return new VirtualClock(timeline, origin, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return timeline.instant();
+    }
+
+    @Override
+    public long millis() {
+        return instant().toEpochMilli();
+    }
+
+    VirtualTimeline getTimeline() {
+        return timeline;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return obj instanceof VirtualClock other
+                && timeline == other.timeline
+                && origin.equals(other.origin)
+                && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(timeline), origin, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock[" + instant() + "," + zone + "]";
+    }
+}
@@ -3,6 +3,7 @@ module io.github.solaris.jaxrs.client.test {
     requires transitive org.jspecify;
     requires transitive java.xml;
     requires json.path;
+    requires jdk.httpserver;
 
     exports io.github.solaris.jaxrs.client.test.request;
     exports io.github.solaris.jaxrs.client.test.response;
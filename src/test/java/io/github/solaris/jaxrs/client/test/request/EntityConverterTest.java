@@ -13,18 +13,25 @@ import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVen
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static jakarta.ws.rs.core.MediaType.CHARSET_PARAMETER;
 import static jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 import static jakarta.ws.rs.core.MediaType.TEXT_HTML_TYPE;
 import static jakarta.ws.rs.core.Response.Status.OK;
 import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -36,6 +43,7 @@ import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 
 import org.junit.jupiter.api.AutoClose;
@@ -313,6 +321,85 @@ class EntityConverterTest {
                 .doesNotThrowAnyException();
     }
 
+    @JaxRsVendorTest
+    void testSerializeEntity() {
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            ByteBuffer serialized = converter.serializeEntity(request);
+
+            assertThat(serialized.isReadOnly()).isTrue();
+            assertThat(serialized).isEqualTo(ByteBuffer.wrap("hello".getBytes(UTF_8)));
+            assertThat(converter.serializeEntity(request)).isEqualTo(serialized);
+        }).andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.text("hello")).close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testSerializeEntity_byteArrayNotCopied() {
+        byte[] entity = "hello".getBytes(UTF_8);
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            ByteBuffer serialized = converter.serializeEntity(request);
+
+            entity[0] = 'j';
+            assertThat(serialized).isEqualTo(ByteBuffer.wrap("jello".getBytes(UTF_8)));
+        }).andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.entity(entity, APPLICATION_OCTET_STREAM_TYPE)).close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testSerializeEntity_serializedOnce() {
+        GreetingWriter writer = new GreetingWriter();
+        client.register(writer);
+
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            assertThat(converter.convertEntity(request, String.class)).isEqualTo("hello");
+            assertThat(converter.convertEntity(request, byte[].class)).isEqualTo("hello".getBytes(UTF_8));
+            assertThat(converter.serializeEntity(request)).isEqualTo(ByteBuffer.wrap("hello".getBytes(UTF_8)));
+        }).andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.text(new Greeting("hello"))).close())
+                .doesNotThrowAnyException();
+        assertThat(writer.writes).hasValue(1);
+    }
+
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testSerializeEntity_replacedEntitySerializedAgain() {
+        client.register(new GreetingWriter());
+
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            assertThat(converter.convertEntity(request, String.class)).isEqualTo("hello");
+
+            request.setEntity(new Greeting("goodbye"));
+            assertThat(converter.convertEntity(request, String.class)).isEqualTo("goodbye");
+        }).andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.text(new Greeting("hello"))).close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testSerializeEntity_changedMediaTypeSerializedAgain() {
+        client.register(new GreetingWriter());
+
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            assertThat(converter.convertEntity(request, String.class)).isEqualTo("hello");
+
+            request.setEntity(request.getEntity(), request.getEntityAnnotations(), TEXT_HTML_TYPE);
+            assertThat(converter.convertEntity(request, String.class)).isEqualTo("<p>hello</p>");
+        }).andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.text(new Greeting("hello"))).close())
+                .doesNotThrowAnyException();
+    }
+
     @Nested
     @EnableJackson3
     class WithJson {
@@ -432,6 +519,15 @@ class EntityConverterTest {
                 };
                 validateArguments(validationClient, filterExceptionAssert, matcher, "'genericType' must not be null.");
             }
+
+            @JaxRsVendorTest
+            void testSerializeEntity_requestNull(FilterExceptionAssert filterExceptionAssert) {
+                RequestMatcher matcher = request -> {
+                    EntityConverter converter = EntityConverter.fromRequestContext(request);
+                    converter.serializeEntity(null);
+                };
+                validateArguments(validationClient, filterExceptionAssert, matcher, "'requestContext' must not be null.");
+            }
         }
 
         @Nested
@@ -502,4 +598,23 @@ class EntityConverterTest {
             }
         }
     }
+
+    public record Greeting(String text) {}
+
+    public static final class GreetingWriter implements MessageBodyWriter<Greeting> {
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == Greeting.class;
+        }
+
+        @Override
+        public void writeTo(Greeting greeting, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+            writes.incrementAndGet();
+            String text = TEXT_HTML_TYPE.isCompatible(mediaType) ? "<p>" + greeting.text() + "</p>" : greeting.text();
+            entityStream.write(text.getBytes(UTF_8));
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class BodyThrottleTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    private final VirtualClock clock = VirtualClock.create();
+
+    @JaxRsVendorTest
+    void testBytesPerSecond() throws Exception {
+        BodyThrottle throttle = BodyThrottle.bytesPerSecond(10_000).chunkSize(10_000);
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/download")).andRespond(withSuccess().entityGenerated(40_000, 42L).throttleBody(throttle));
+
+        try (Response response = client.target("/download").request().get();
+             ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<byte[]> body = executor.submit(() -> read(response.readEntity(InputStream.class)));
+            try {
+                // The first chunk is available at once, the remaining three and the end of the stream one second apart
+                for (int second = 1; second <= 4; second++) {
+                    clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+                    assertThat(body).isNotDone();
+                    clock.advance(Duration.ofSeconds(1));
+                }
+
+                assertThat(body.get(5, TimeUnit.SECONDS)).isEqualTo(GeneratedInputStream.seeded(40_000, 42L).readAllBytes());
+            } finally {
+                releaseReader();
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testStallAfter() throws Exception {
+        BodyThrottle throttle = BodyThrottle.unlimited()
+                .chunkSize(1000)
+                .stallAfter(2500, Duration.ofSeconds(30));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/download")).andRespond(withSuccess().entityGenerated(5000, 42L).throttleBody(throttle));
+
+        try (Response response = client.target("/download").request().get();
+             ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<byte[]> body = executor.submit(() -> read(response.readEntity(InputStream.class)));
+            try {
+                clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+
+                clock.advance(Duration.ofSeconds(29));
+                assertThat(clock.getPendingDelays()).isOne();
+                assertThat(body).isNotDone();
+
+                clock.advance(Duration.ofSeconds(1));
+                assertThat(body.get(5, TimeUnit.SECONDS)).hasSize(5000);
+            } finally {
+                releaseReader();
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testThrottledEntity() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/greeting"))
+                .andRespond(withSuccess("hello world", TEXT_PLAIN_TYPE).throttleBody(BodyThrottle.unlimited().chunkSize(2)).freeze());
+
+        assertThat(client.target("/greeting").request().get(String.class)).isEqualTo("hello world");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testToString() {
+        assertThat(BodyThrottle.bytesPerSecond(1024).chunkSize(512).stallAfter(10, Duration.ZERO))
+                .hasToString("BodyThrottle[rate=1024 bytes/s, chunkSize=512, stalls=1]");
+        assertThat(BodyThrottle.unlimited()).hasToString("BodyThrottle[rate=unlimited, chunkSize=8192, stalls=0]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testBytesPerSecond_zero",
+                        (ThrowingCallable) () -> BodyThrottle.bytesPerSecond(0), "'bytesPerSecond' must be positive."),
+                argumentSet("testChunkSize_zero",
+                        (ThrowingCallable) () -> BodyThrottle.unlimited().chunkSize(0), "'chunkSize' must be positive."),
+                argumentSet("testStallAfter_negativeBytes",
+                        (ThrowingCallable) () -> BodyThrottle.unlimited().stallAfter(-1, Duration.ZERO), "'bytes' must not be negative."),
+                argumentSet("testStallAfter_duration_null",
+                        (ThrowingCallable) () -> BodyThrottle.unlimited().stallAfter(0, null), "'duration' must not be null."),
+                argumentSet("testStallAfter_duration_negative",
+                        (ThrowingCallable) () -> BodyThrottle.unlimited().stallAfter(0, Duration.ofSeconds(-1)), "'duration' must not be negative."),
+                argumentSet("testThrottleBody_null",
+                        (ThrowingCallable) () -> withSuccess().throttleBody(null), "'throttle' must not be null.")
+        );
+    }
+
+    /**
+     * Let a reader that is still waiting after a failed assertion finish, so closing the executor does not block.
+     */
+    private void releaseReader() {
+        clock.advance(Duration.ofDays(1));
+    }
+
+    private static byte[] read(InputStream body) throws IOException {
+        try (body) {
+            return body.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withBulkhead;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withException;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.RequestOrder;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class BulkheadTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    private final VirtualClock clock = VirtualClock.create();
+
+    @JaxRsVendorTest
+    void testQueueAndReject() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(2).queue(1).serviceTime(Duration.ofSeconds(10));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(4), requestTo("/inventory")).andRespond(withBulkhead(withSuccess(), bulkhead));
+
+        List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            responses.add(client.target("/inventory").request().async().get());
+        }
+        clock.awaitPendingDelays(2, Duration.ofSeconds(5));
+        awaitRejections(bulkhead, 1);
+
+        assertThat(bulkhead.getInFlight()).isEqualTo(2);
+        clock.advance(Duration.ofSeconds(10));
+        clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+        clock.advance(Duration.ofSeconds(10));
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Response> response : responses) {
+            try (Response done = response.get(5, TimeUnit.SECONDS)) {
+                statuses.add(done.getStatus());
+            }
+        }
+        assertThat(statuses).containsExactlyInAnyOrder(
+                OK.getStatusCode(), OK.getStatusCode(), OK.getStatusCode(), SERVICE_UNAVAILABLE.getStatusCode()
+        );
+        assertThat(bulkhead.getMaxInFlight()).isEqualTo(2);
+        assertThat(bulkhead.getMaxQueued()).isOne();
+        assertThat(bulkhead.getQueuedCount()).isOne();
+        assertThat(bulkhead.getRejectedCount()).isOne();
+        assertThat(bulkhead.getMaxQueueWait()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(bulkhead.getTotalQueueWait()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(bulkhead.getInFlight()).isZero();
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testRejectWith() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Bulkhead bulkhead = Bulkhead.of(1).rejectWith(withException(new ConnectException("Connection refused")));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), requestTo("/inventory")).andRespond(withBulkhead(request -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return withSuccess().createResponse(request);
+        }, bulkhead));
+
+        Future<Response> first = client.target("/inventory").request().async().get();
+        while (bulkhead.getInFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> client.target("/inventory").request().get())
+                .isInstanceOf(ProcessingException.class)
+                .hasCauseInstanceOf(ConnectException.class);
+
+        release.countDown();
+        try (Response response = first.get(5, TimeUnit.SECONDS)) {
+            assertThat(response.getStatus()).isEqualTo(OK.getStatusCode());
+        }
+    }
+
+    @JaxRsVendorTest
+    void testSharedAcrossExpectations() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(3).queue(100).serviceTime(Duration.ofMillis(5));
+        MockRestServer server = MockRestServer.bindTo(client).withRequestOrder(RequestOrder.UNORDERED).build();
+        server.expect(ExpectedCount.times(50), requestTo("/first")).andRespond(withBulkhead(withSuccess(), bulkhead));
+        server.expect(ExpectedCount.times(50), requestTo("/second")).andRespond(withBulkhead(withSuccess(), bulkhead));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 50; i++) {
+                executor.submit(() -> client.target("/first").request().get().close());
+                executor.submit(() -> client.target("/second").request().get().close());
+            }
+        }
+
+        server.verify();
+        assertThat(bulkhead.getMaxInFlight()).isBetween(1, 3);
+        assertThat(bulkhead.getRejectedCount()).isZero();
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testOf_zero",
+                        (ThrowingCallable) () -> Bulkhead.of(0), "'maxConcurrent' must be positive."),
+                argumentSet("testQueue_negative",
+                        (ThrowingCallable) () -> Bulkhead.of(1).queue(-1), "'capacity' must not be negative."),
+                argumentSet("testServiceTime_duration_null",
+                        (ThrowingCallable) () -> Bulkhead.of(1).serviceTime((Duration) null), "'serviceTime' must not be null."),
+                argumentSet("testServiceTime_latency_null",
+                        (ThrowingCallable) () -> Bulkhead.of(1).serviceTime((Latency) null), "'serviceTime' must not be null."),
+                argumentSet("testRejectWith_null",
+                        (ThrowingCallable) () -> Bulkhead.of(1).rejectWith(null), "'rejection' must not be null."),
+                argumentSet("testWithBulkhead_responseCreator_null",
+                        (ThrowingCallable) () -> withBulkhead(null, Bulkhead.of(1)), "'responseCreator' must not be null."),
+                argumentSet("testWithBulkhead_bulkhead_null",
+                        (ThrowingCallable) () -> withBulkhead(withSuccess(), null), "'bulkhead' must not be null.")
+        );
+    }
+
+    private static void awaitRejections(Bulkhead bulkhead, long count) {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getRejectedCount() < count && System.nanoTime() - end < 0) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withNdjson;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withServerSentEvents;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static jakarta.ws.rs.core.MediaType.SERVER_SENT_EVENTS_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.Dto;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class EventFeedTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testServerSentEvents() {
+        EventFeed events = EventFeed.fromStream(() -> Stream.of(
+                "hello",
+                new Dto("world"),
+                ServerSentEvent.of("first line\nsecond line")
+                        .id("3")
+                        .name("greeting")
+                        .comment("a comment")
+                        .reconnectDelay(Duration.ofSeconds(5)),
+                ServerSentEvent.of(new Dto("json")).mediaType(APPLICATION_JSON_TYPE).name("dto")
+        ));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/events")).andRespond(withServerSentEvents(events));
+
+        try (Response response = client.target("/events").request().get()) {
+            assertThat(response.getMediaType().isCompatible(SERVER_SENT_EVENTS_TYPE)).isTrue();
+            assertThat(response.getHeaderString("Content-Length")).isNull();
+            assertThat(response.readEntity(String.class)).isEqualTo("""
+                    data: hello
+
+                    data: {"something":"world"}
+
+                    : a comment
+                    id: 3
+                    event: greeting
+                    retry: 5000
+                    data: first line
+                    data: second line
+
+                    event: dto
+                    data: {"something":"json"}
+
+                    """);
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testNdjson() {
+        EventFeed items = EventFeed.fromIterator(() -> List.<Object>of("{\"raw\":true}", new Dto("hello"), new Dto(42)).iterator());
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/items")).andRespond(withNdjson(items));
+
+        try (Response response = client.target("/items").request().get()) {
+            assertThat(response.getMediaType()).hasToString("application/x-ndjson");
+            assertThat(response.readEntity(String.class)).isEqualTo("""
+                    {"raw":true}
+                    {"something":"hello"}
+                    {"something":42}
+                    """);
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testLargeFeed() throws IOException {
+        int size = 1_000_000;
+        AtomicBoolean closed = new AtomicBoolean();
+        EventFeed items = EventFeed.fromStream(() -> IntStream.range(0, size)
+                .mapToObj(i -> "{\"id\":" + i + "}")
+                .onClose(() -> closed.set(true)));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/items")).andRespond(withNdjson(items));
+
+        try (Response response = client.target("/items").request().get();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(response.readEntity(InputStream.class), UTF_8))) {
+            assertThat(reader.readLine()).isEqualTo("{\"id\":0}");
+            assertThat(reader.lines().count()).isEqualTo(size - 1);
+        }
+        assertThat(closed).isTrue();
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testInterval() throws Exception {
+        VirtualClock clock = VirtualClock.create();
+        EventFeed events = EventFeed.fromStream(() -> Stream.of("a", "b", "c")).interval(Duration.ofSeconds(1));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/events")).andRespond(withServerSentEvents(events));
+
+        try (Response response = client.target("/events").request().get();
+             ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> body = executor.submit(() -> read(response.readEntity(InputStream.class)));
+            try {
+                // The first event is sent at once, the other two one second apart
+                for (int second = 1; second <= 2; second++) {
+                    clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+                    assertThat(body).isNotDone();
+                    clock.advance(Duration.ofSeconds(1));
+                }
+
+                assertThat(body.get(5, TimeUnit.SECONDS)).isEqualTo("data: a\n\ndata: b\n\ndata: c\n\n");
+            } finally {
+                clock.advance(Duration.ofDays(1));
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testPublisher() {
+        RangePublisher publisher = new RangePublisher(100);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/items")).andRespond(withNdjson(EventFeed.fromPublisher(publisher)));
+
+        try (Response response = client.target("/items").request().get()) {
+            String body = response.readEntity(String.class);
+            assertThat(body.lines()).hasSize(100).startsWith("0", "1").endsWith("99");
+        }
+        assertThat(publisher.maxOutstanding).hasValueLessThanOrEqualTo(16);
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testPublisher_cancelledOnClose() throws IOException {
+        RangePublisher publisher = new RangePublisher(10_000);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/items")).andRespond(withNdjson(EventFeed.fromPublisher(publisher)));
+
+        try (Response response = client.target("/items").request().get();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(response.readEntity(InputStream.class), UTF_8))) {
+            assertThat(reader.readLine()).isEqualTo("0");
+        }
+        assertThat(publisher.cancelled).isTrue();
+        server.verify();
+    }
+
+    @Test
+    void testPublisher_error() {
+        Flow.Publisher<String> publisher = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onNext("first");
+            subscriber.onError(new IllegalStateException("boom"));
+        };
+        Iterator<?> elements = EventFeed.fromPublisher(publisher).open().iterator();
+
+        assertThat(elements.next()).isEqualTo("first");
+        assertThatThrownBy(elements::hasNext)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(IOException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testFromStream_null",
+                        (ThrowingCallable) () -> EventFeed.fromStream(null), "'stream' must not be null."),
+                argumentSet("testFromIterator_null",
+                        (ThrowingCallable) () -> EventFeed.fromIterator(null), "'iterator' must not be null."),
+                argumentSet("testFromPublisher_null",
+                        (ThrowingCallable) () -> EventFeed.fromPublisher(null), "'publisher' must not be null."),
+                argumentSet("testInterval_duration_null",
+                        (ThrowingCallable) () -> EventFeed.fromStream(Stream::of).interval((Duration) null), "'interval' must not be null."),
+                argumentSet("testInterval_latency_null",
+                        (ThrowingCallable) () -> EventFeed.fromStream(Stream::of).interval((Latency) null), "'interval' must not be null."),
+                argumentSet("testWithServerSentEvents_null",
+                        (ThrowingCallable) () -> withServerSentEvents(null), "'feed' must not be null."),
+                argumentSet("testWithNdjson_null",
+                        (ThrowingCallable) () -> withNdjson(null), "'feed' must not be null."),
+                argumentSet("testServerSentEvent_data_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of(null), "'data' must not be null."),
+                argumentSet("testServerSentEvent_mediaType_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").mediaType(null), "'mediaType' must not be null."),
+                argumentSet("testServerSentEvent_id_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").id(null), "'id' must not be null."),
+                argumentSet("testServerSentEvent_id_lineFeed",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").id("1\ndata: injected"), "'id' must not contain line breaks."),
+                argumentSet("testServerSentEvent_id_carriageReturn",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").id("1\r"), "'id' must not contain line breaks."),
+                argumentSet("testServerSentEvent_name_lineFeed",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").name("update\n\ndata: injected"), "'name' must not contain line breaks."),
+                argumentSet("testServerSentEvent_name_carriageReturn",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").name("update\r"), "'name' must not contain line breaks."),
+                argumentSet("testServerSentEvent_name_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").name(null), "'name' must not be null."),
+                argumentSet("testServerSentEvent_comment_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").comment(null), "'comment' must not be null."),
+                argumentSet("testServerSentEvent_reconnectDelay_null",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").reconnectDelay(null), "'reconnectDelay' must not be null."),
+                argumentSet("testServerSentEvent_reconnectDelay_negative",
+                        (ThrowingCallable) () -> ServerSentEvent.of("").reconnectDelay(Duration.ofSeconds(-1)), "'reconnectDelay' must not be negative.")
+        );
+    }
+
+    private static String read(InputStream body) throws IOException {
+        try (body) {
+            return new String(body.readAllBytes(), UTF_8);
+        }
+    }
+
+    /**
+     * Publishes the numbers from 0 to {@code count} as Strings, only as many as requested.
+     */
+    private static final class RangePublisher implements Flow.Publisher<String> {
+        private final int count;
+        private final AtomicInteger maxOutstanding = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        private RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long demand;
+                private int next;
+                private boolean emitting;
+                private boolean completed;
+
+                @Override
+                public synchronized void request(long n) {
+                    demand += n;
+                    maxOutstanding.accumulateAndGet((int) demand, Math::max);
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < count && !cancelled) {
+                        demand--;
+                        subscriber.onNext(String.valueOf(next++));
+                    }
+                    emitting = false;
+                    if (next == count && !completed) {
+                        completed = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
@@ -8,13 +8,27 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.ProcessingException;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -26,17 +40,22 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriBuilder;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.jspecify.annotations.NullUnmarked;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.server.MockRestServer;
 import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
 import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
@@ -46,8 +65,15 @@ class ExecutingResponseCreatorTest {
     private static final AssertableHandler HANDLER = new AssertableHandler();
     private static final String REQUEST_BODY = "{\"hello\": true}";
 
+    private static final AtomicInteger CONCURRENT = new AtomicInteger();
+    private static final AtomicInteger MAX_CONCURRENT = new AtomicInteger();
+    private static final AtomicInteger SLOW_CALLS = new AtomicInteger();
+
+    private static URI baseUri;
     private static URI requestUri;
+    private static volatile CountDownLatch slowRelease;
     private static HttpServer httpServer;
+    private static ExecutorService httpExecutor;
 
     @AutoClose
     private final Client client = ClientBuilder.newClient();
@@ -59,25 +85,69 @@ class ExecutingResponseCreatorTest {
             port = socket.getLocalPort();
         }
 
-        requestUri = UriBuilder.fromUri("http://localhost")
+        baseUri = UriBuilder.fromUri("http://localhost")
                 .port(port)
+                .build();
+        requestUri = UriBuilder.fromUri(baseUri)
                 .path("hello")
                 .build();
 
         httpServer = HttpServer.create(new InetSocketAddress(port), 0);
         httpServer.createContext("/hello", HANDLER);
-        httpServer.setExecutor(null);
+        httpServer.createContext("/slow", exchange -> {
+            SLOW_CALLS.incrementAndGet();
+            try {
+                slowRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = exchange.getRequestHeaders().getFirst("X-Tenant").getBytes(UTF_8);
+            exchange.sendResponseHeaders(OK.getStatusCode(), body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        httpServer.createContext("/concurrent", exchange -> {
+            MAX_CONCURRENT.accumulateAndGet(CONCURRENT.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            CONCURRENT.decrementAndGet();
+            exchange.sendResponseHeaders(OK.getStatusCode(), -1);
+            exchange.close();
+        });
+        httpServer.createContext("/streaming", exchange -> {
+            MAX_CONCURRENT.accumulateAndGet(CONCURRENT.incrementAndGet(), Math::max);
+            exchange.sendResponseHeaders(OK.getStatusCode(), 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write("hello".getBytes(UTF_8));
+                body.flush();
+                Thread.sleep(50);
+                // Decremented before the body is complete, since the client may send the next request right after
+                CONCURRENT.decrementAndGet();
+                body.write(" world".getBytes(UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        httpExecutor = Executors.newCachedThreadPool();
+        httpServer.setExecutor(httpExecutor);
         httpServer.start();
     }
 
     @BeforeEach
     void resetHandler() {
         HANDLER.reset();
+        MAX_CONCURRENT.set(0);
+        SLOW_CALLS.set(0);
+        slowRelease = new CountDownLatch(1);
     }
 
     @AfterAll
     static void stopServer() {
         httpServer.stop(0);
+        httpExecutor.shutdownNow();
     }
 
     @EnableJackson3
@@ -114,6 +184,193 @@ class ExecutingResponseCreatorTest {
                 .hasMessage("'client' must not be null.");
     }
 
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testBuilderDefaults() {
+        testResponseCreator(ExecutingResponseCreator.builder().build());
+    }
+
+    @JaxRsVendorTest
+    void testBuilderCustomClient() {
+        try (Client customClient = ClientBuilder.newClient()) {
+            testResponseCreatorWithoutBody(ExecutingResponseCreator.builder().client(customClient).build());
+        }
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testBuilderWithTimeout() {
+        testResponseCreator(ExecutingResponseCreator.builder().timeout(Duration.ofSeconds(5)).build());
+    }
+
+    @JaxRsVendorTest
+    void testRewriteBaseUri() {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .rewriteBaseUri(URI.create("https://api.example.com/v2"), URI.create("https://unused.example.com"))
+                .rewriteBaseUri(URI.create("https://api.example.com/v1/"), baseUri)
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+
+        mockServer.expect(requestTo("https://api.example.com/v1/hello?page=2")).andRespond(responseCreator);
+
+        try (Response response = client.target("https://api.example.com/v1/hello").queryParam("page", 2).request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+        }
+
+        mockServer.verify();
+        assertThat(HANDLER.requestUri).isEqualTo(UriBuilder.fromUri(requestUri).queryParam("page", 2).build());
+    }
+
+    @JaxRsVendorTest
+    void testTimeout() {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .timeout(Duration.ofMillis(200))
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+
+        mockServer.expect(requestTo(baseUri + "/slow")).andRespond(responseCreator);
+
+        try {
+            assertThatThrownBy(() -> client.target(baseUri).path("slow").request().header("X-Tenant", "a").get())
+                    .isInstanceOf(ProcessingException.class)
+                    .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        } finally {
+            slowRelease.countDown();
+        }
+    }
+
+    @JaxRsVendorTest
+    void testMaxConnections() throws Exception {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .maxConnections(2)
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+
+        mockServer.expect(ExpectedCount.times(8), requestTo(baseUri + "/concurrent")).andRespond(responseCreator);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                statuses.add(executor.submit(() -> {
+                    try (Response response = client.target(baseUri).path("concurrent").request().get()) {
+                        return response.getStatus();
+                    }
+                }));
+            }
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get(10, TimeUnit.SECONDS)).isEqualTo(OK.getStatusCode());
+            }
+        }
+
+        mockServer.verify();
+        assertThat(MAX_CONCURRENT.get()).isBetween(1, 2);
+    }
+
+    @JaxRsVendorTest
+    void testMaxConnections_heldUntilBodyReceived() throws Exception {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .maxConnections(1)
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+
+        mockServer.expect(ExpectedCount.times(4), requestTo(baseUri + "/streaming")).andRespond(responseCreator);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<String>> bodies = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                bodies.add(executor.submit(() -> client.target(baseUri).path("streaming").request().get(String.class)));
+            }
+            for (Future<String> body : bodies) {
+                assertThat(body.get(10, TimeUnit.SECONDS)).isEqualTo("hello world");
+            }
+        }
+
+        mockServer.verify();
+        assertThat(MAX_CONCURRENT.get()).isOne();
+    }
+
+    @JaxRsVendorTest
+    void testCoalesceRequests() throws Exception {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .coalesceRequests("X-Tenant")
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+
+        mockServer.expect(ExpectedCount.times(8), requestTo(baseUri + "/slow")).andRespond(responseCreator);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<String>> bodies = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String tenant = i < 6 ? "a" : "b";
+                bodies.add(executor.submit(() -> client.target(baseUri).path("slow").request().header("X-Tenant", tenant).get(String.class)));
+            }
+
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (responseCreator.getCoalescedCount() < 6 && System.nanoTime() - end < 0) {
+                Thread.onSpinWait();
+            }
+            slowRelease.countDown();
+
+            for (int i = 0; i < 8; i++) {
+                assertThat(bodies.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i < 6 ? "a" : "b");
+            }
+        }
+
+        mockServer.verify();
+        assertThat(SLOW_CALLS).hasValue(2);
+        assertThat(responseCreator.getCoalescedCount()).isEqualTo(6);
+    }
+
+    @JaxRsVendorTest
+    void testCoalesceRequests_sequential() {
+        ExecutingResponseCreator responseCreator = ExecutingResponseCreator.builder()
+                .coalesceRequests()
+                .build();
+        MockRestServer mockServer = MockRestServer.bindTo(client).build();
+        slowRelease.countDown();
+
+        mockServer.expect(ExpectedCount.times(2), requestTo(baseUri + "/slow")).andRespond(responseCreator);
+
+        assertThat(client.target(baseUri).path("slow").request().header("X-Tenant", "a").get(String.class)).isEqualTo("a");
+        assertThat(client.target(baseUri).path("slow").request().header("X-Tenant", "b").get(String.class)).isEqualTo("b");
+
+        mockServer.verify();
+        assertThat(SLOW_CALLS).hasValue(2);
+        assertThat(responseCreator.getCoalescedCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testBuilderClient_null",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().client(null), "'client' must not be null."),
+                argumentSet("testBuilderMaxConnections_zero",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().maxConnections(0), "'maxConnections' must be positive."),
+                argumentSet("testBuilderTimeout_null",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().timeout(null), "'timeout' must not be null."),
+                argumentSet("testBuilderTimeout_zero",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().timeout(Duration.ZERO), "'timeout' must be positive."),
+                argumentSet("testBuilderCoalesceRequests_null",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().coalesceRequests((String[]) null), "'keyHeaders' must not be null."),
+                argumentSet("testBuilderCoalesceRequests_nullHeader",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().coalesceRequests("Accept", null), "'keyHeaders' must not contain null."),
+                argumentSet("testBuilderRewriteBaseUri_from_null",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().rewriteBaseUri(null, URI.create("http://localhost")),
+                                "'from' must not be null."),
+                argumentSet("testBuilderRewriteBaseUri_to_null",
+                        (ThrowingCallable) () -> ExecutingResponseCreator.builder().rewriteBaseUri(URI.create("http://localhost"), null),
+                                "'to' must not be null.")
+        );
+    }
+
     private void testResponseCreator(ExecutingResponseCreator responseCreator) {
         HeaderCaptor headerCaptor = new HeaderCaptor();
         MockRestServer mockServer = MockRestServer.bindTo(client).build();
@@ -0,0 +1,202 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withFaults;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class FaultInjectingResponseCreatorTest {
+    private static final int REQUESTS = 10_000;
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @Test
+    void testRates() throws IOException {
+        FaultInjectingResponseCreator responseCreator = withFaults(request -> null)
+                .timeouts(0.1)
+                .connectionResets(0.2)
+                .serverErrors(0.3, 503)
+                .seed(42L);
+
+        List<String> outcomes = outcomes(responseCreator);
+
+        assertThat(outcomes.stream().filter("SocketTimeoutException"::equals).count())
+                .isCloseTo(REQUESTS / 10, Percentage.withPercentage(10));
+        assertThat(outcomes.stream().filter("SocketException"::equals).count())
+                .isCloseTo(REQUESTS / 5, Percentage.withPercentage(10));
+        assertThat(outcomes.stream().filter("503"::equals).count())
+                .isCloseTo(REQUESTS * 3 / 10, Percentage.withPercentage(10));
+        assertThat(outcomes.stream().filter("none"::equals).count())
+                .isCloseTo(REQUESTS * 4 / 10, Percentage.withPercentage(10));
+    }
+
+    @Test
+    void testSameSeedSameFaults() throws IOException {
+        List<String> first = outcomes(withFaults(request -> null).timeouts(0.1).serverErrors(0.1, 500).seed(42L));
+        List<String> second = outcomes(withFaults(request -> null).timeouts(0.1).serverErrors(0.1, 500).seed(42L));
+        List<String> otherSeed = outcomes(withFaults(request -> null).timeouts(0.1).serverErrors(0.1, 500).seed(43L));
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    void testNoFaults() throws IOException {
+        assertThat(outcomes(withFaults(request -> null))).containsOnly("none");
+    }
+
+    @Test
+    void testAlwaysFail() {
+        ResponseCreator responseCreator = withFaults(request -> null).connectionResets(1);
+
+        assertThatThrownBy(() -> responseCreator.createResponse(new MockClientRequestContext()))
+                .isInstanceOf(SocketException.class)
+                .hasMessage("Connection reset");
+    }
+
+    @JaxRsVendorTest
+    void testTruncatedBody() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/hello")).andRespond(withFaults(withSuccess("Hello World", TEXT_PLAIN_TYPE)).truncatedBodies(1));
+
+        try (Response response = client.target("/hello").request().get()) {
+            assertThat(response.getHeaderString(CONTENT_LENGTH)).isEqualTo("11");
+            assertThat(response.readEntity(String.class)).isEqualTo("Hello");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testTruncatedBody_replacesContentLength() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/hello"))
+                .andRespond(withFaults(withSuccess("Hello World", TEXT_PLAIN_TYPE).header(CONTENT_LENGTH, 11)).truncatedBodies(1));
+
+        try (Response response = client.target("/hello").request().get()) {
+            assertThat(response.getHeaders().get(CONTENT_LENGTH)).singleElement().hasToString("11");
+            assertThat(response.readEntity(String.class)).isEqualTo("Hello");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testSlowFirstByte() throws Exception {
+        VirtualClock clock = VirtualClock.create();
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/hello"))
+                .andRespond(withFaults(withSuccess()).slowFirstByte(1, Latency.fixed(Duration.ofSeconds(30))));
+
+        Future<Response> response = client.target("/hello").request().async().get();
+        clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+        assertThat(response).isNotDone();
+
+        clock.advance(Duration.ofSeconds(30));
+        try (Response done = response.get()) {
+            assertThat(done.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testOutage() {
+        VirtualClock clock = VirtualClock.create();
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(4), requestTo("/hello"))
+                .andRespond(withFaults(withSuccess()).outage(Duration.ofSeconds(10), Duration.ofSeconds(5)));
+
+        assertThat(status()).isEqualTo(200);
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(status()).isEqualTo(SERVICE_UNAVAILABLE.getStatusCode());
+        clock.advance(Duration.ofMillis(4_999));
+        assertThat(status()).isEqualTo(SERVICE_UNAVAILABLE.getStatusCode());
+        clock.advance(Duration.ofMillis(1));
+        assertThat(status()).isEqualTo(200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithFaults_null",
+                        (ThrowingCallable) () -> withFaults(null), "'responseCreator' must not be null."),
+                argumentSet("testTimeouts_rate_negative",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).timeouts(-0.1), "'rate' must be between 0 and 1 but was -0.1"),
+                argumentSet("testTimeouts_rate_nan",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).timeouts(Double.NaN), "'rate' must be between 0 and 1 but was NaN"),
+                argumentSet("testRates_sumGreaterThanOne",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).timeouts(0.6).connectionResets(0.5),
+                        "The rates of all faults must not add up to more than 1."),
+                argumentSet("testExceptions_null",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).exceptions(0.1, null), "'exception' must not be null."),
+                argumentSet("testServerErrors_notServerError",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).serverErrors(0.1, 404),
+                        "'statusCode' must be a server error (5xx) but was 404"),
+                argumentSet("testSlowFirstByte_null",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).slowFirstByte(0.1, null), "'latency' must not be null."),
+                argumentSet("testOutage_start_null",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).outage(null, Duration.ZERO), "'start' must not be null."),
+                argumentSet("testOutage_duration_negative",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).outage(Duration.ZERO, Duration.ofSeconds(-1)),
+                        "'duration' must not be negative."),
+                argumentSet("testOutage_responseCreator_null",
+                        (ThrowingCallable) () -> withFaults(withSuccess()).outage(Duration.ZERO, Duration.ZERO, null),
+                        "'responseCreator' must not be null.")
+        );
+    }
+
+    private int status() {
+        try (Response response = client.target("/hello").request().get()) {
+            return response.getStatus();
+        }
+    }
+
+    private static List<String> outcomes(ResponseCreator responseCreator) throws IOException {
+        List<String> outcomes = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            try (Response response = responseCreator.createResponse(new MockClientRequestContext())) {
+                outcomes.add(response == null ? "none" : String.valueOf(response.getStatus()));
+            } catch (SocketTimeoutException e) {
+                outcomes.add("SocketTimeoutException");
+            } catch (SocketException e) {
+                outcomes.add("SocketException");
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LatencyTest {
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    void testFixed() {
+        Latency latency = Latency.fixed(Duration.ofMillis(42));
+
+        assertThat(sample(latency, 42L)).containsOnly(Duration.ofMillis(42).toNanos());
+    }
+
+    @Test
+    void testUniform() {
+        Latency latency = Latency.uniform(Duration.ofMillis(10), Duration.ofMillis(20));
+
+        assertThat(LongStream.of(sample(latency, 42L))).allSatisfy(
+                nanos -> assertThat(nanos).isBetween(Duration.ofMillis(10).toNanos(), Duration.ofMillis(20).toNanos())
+        );
+    }
+
+    @Test
+    void testUniform_minEqualsMax() {
+        Latency latency = Latency.uniform(Duration.ofMillis(10), Duration.ofMillis(10));
+
+        assertThat(sample(latency, 42L)).containsOnly(Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    void testNormal() {
+        Latency latency = Latency.normal(Duration.ofMillis(100), Duration.ofMillis(10));
+
+        long[] samples = sample(latency, 42L);
+        assertThat(LongStream.of(samples).average().orElseThrow())
+                .isCloseTo(Duration.ofMillis(100).toNanos(), Percentage.withPercentage(2));
+    }
+
+    @Test
+    void testNormal_neverNegative() {
+        Latency latency = Latency.normal(Duration.ZERO, Duration.ofMillis(10));
+
+        assertThat(LongStream.of(sample(latency, 42L))).allSatisfy(nanos -> assertThat(nanos).isNotNegative());
+    }
+
+    @Test
+    void testLogNormal() {
+        Latency latency = Latency.logNormal(Duration.ofMillis(50), 1);
+
+        long[] samples = sample(latency, 42L);
+        Arrays.sort(samples);
+        assertThat(samples[SAMPLES / 2]).isCloseTo(Duration.ofMillis(50).toNanos(), Percentage.withPercentage(5));
+        assertThat(samples[SAMPLES - 1]).isGreaterThan(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    void testPercentiles() {
+        Latency latency = Latency.percentiles(Map.of(
+                50.0, Duration.ofMillis(10),
+                99.0, Duration.ofMillis(100),
+                99.9, Duration.ofSeconds(1)
+        ));
+
+        long[] samples = sample(latency, 42L);
+        assertThat(LongStream.of(samples).filter(nanos -> nanos <= Duration.ofMillis(10).toNanos()).count())
+                .isCloseTo(SAMPLES / 2, Percentage.withPercentage(5));
+        assertThat(LongStream.of(samples).filter(nanos -> nanos <= Duration.ofMillis(100).toNanos()).count())
+                .isCloseTo(SAMPLES * 99 / 100, Percentage.withPercentage(1));
+        assertThat(LongStream.of(samples)).allSatisfy(
+                nanos -> assertThat(nanos).isBetween(0L, Duration.ofSeconds(1).toNanos())
+        );
+    }
+
+    @Test
+    void testPercentiles_singlePercentile() {
+        Latency latency = Latency.percentiles(Map.of(0.0, Duration.ofMillis(10)));
+
+        assertThat(sample(latency, 42L)).containsOnly(Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    void testSameSeedSameSamples() {
+        Latency latency = Latency.logNormal(Duration.ofMillis(50), 0.5);
+
+        assertThat(sample(latency, 42L)).containsExactly(sample(latency, 42L));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        Map<Double, Duration> nullLatency = new HashMap<>();
+        nullLatency.put(50.0, null);
+
+        return Stream.of(
+                argumentSet("testFixed_null",
+                        (ThrowingCallable) () -> Latency.fixed(null), "'delay' must not be null."),
+                argumentSet("testFixed_negative",
+                        (ThrowingCallable) () -> Latency.fixed(Duration.ofMillis(-1)), "'delay' must not be negative."),
+                argumentSet("testUniform_maxLessThanMin",
+                        (ThrowingCallable) () -> Latency.uniform(Duration.ofMillis(2), Duration.ofMillis(1)), "'max' must be >= 'min'"),
+                argumentSet("testNormal_standardDeviation_null",
+                        (ThrowingCallable) () -> Latency.normal(Duration.ZERO, null), "'standardDeviation' must not be null."),
+                argumentSet("testLogNormal_sigma_negative",
+                        (ThrowingCallable) () -> Latency.logNormal(Duration.ZERO, -1), "'sigma' must be a finite number >= 0"),
+                argumentSet("testLogNormal_sigma_nan",
+                        (ThrowingCallable) () -> Latency.logNormal(Duration.ZERO, Double.NaN), "'sigma' must be a finite number >= 0"),
+                argumentSet("testPercentiles_null",
+                        (ThrowingCallable) () -> Latency.percentiles(null), "'percentiles' must not be null."),
+                argumentSet("testPercentiles_empty",
+                        (ThrowingCallable) () -> Latency.percentiles(Map.of()), "'percentiles' must not be empty."),
+                argumentSet("testPercentiles_outOfRange",
+                        (ThrowingCallable) () -> Latency.percentiles(Map.of(101.0, Duration.ZERO)),
+                        "Percentiles must be between 0 and 100 but found 101.0"),
+                argumentSet("testPercentiles_nullLatency",
+                        (ThrowingCallable) () -> Latency.percentiles(nullLatency), "Latency of percentile 50.0 must not be null or negative."),
+                argumentSet("testPercentiles_decreasing",
+                        (ThrowingCallable) () -> Latency.percentiles(Map.of(50.0, Duration.ofMillis(2), 90.0, Duration.ofMillis(1))),
+                        "Latencies must not decrease with increasing percentiles.")
+        );
+    }
+
+    private static long[] sample(Latency latency, long seed) {
+        Random random = new Random(seed);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.sampleNanos(random);
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LatencyTraceTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testDurations_inSequence() throws IOException {
+        LatencyTrace trace = LatencyTrace.fromDurations(write("""
+                # recorded latencies
+                12.5
+                
+                7ms
+                1.5s
+                250us
+                100 ns
+                """));
+
+        Latency latency = trace.inSequence();
+
+        assertThat(trace.size()).isEqualTo(5);
+        assertThat(sample(latency, 10)).containsExactly(
+                12_500_000L, 7_000_000L, 1_500_000_000L, 250_000L, 100L,
+                12_500_000L, 7_000_000L, 1_500_000_000L, 250_000L, 100L
+        );
+    }
+
+    @Test
+    void testHistogram_inSequence() throws IOException {
+        LatencyTrace trace = LatencyTrace.fromHistogram(write("""
+                # latency, count
+                5ms, 2
+                10ms;0
+                20ms 1
+                """));
+
+        Latency latency = trace.inSequence();
+
+        assertThat(trace.size()).isEqualTo(3);
+        assertThat(sample(latency, 4)).containsExactly(
+                5_000_000L, 5_000_000L, 20_000_000L, 5_000_000L
+        );
+    }
+
+    @Test
+    void testHistogram_weightedRandom() throws IOException {
+        LatencyTrace trace = LatencyTrace.fromHistogram(write("""
+                10ms, 900
+                1s, 100
+                """));
+
+        Latency latency = trace.weightedRandom();
+        long[] samples = sample(latency, 10_000, 42L);
+
+        assertThat(samples).containsOnly(Duration.ofMillis(10).toNanos(), Duration.ofSeconds(1).toNanos());
+        assertThat(LongStream.of(samples).filter(nanos -> nanos == Duration.ofSeconds(1).toNanos()).count())
+                .isCloseTo(1_000, Percentage.withPercentage(10));
+    }
+
+    @Test
+    void testWeightedRandom_sameSeedSameSamples() throws IOException {
+        Latency latency = LatencyTrace.fromDurations(write("1\n2\n3\n4\n5\n")).weightedRandom();
+
+        assertThat(sample(latency, 100, 42L)).containsExactly(sample(latency, 100, 42L));
+    }
+
+    @Test
+    void testLargeTrace() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i <= 1_000; i++) {
+            builder.append(i).append("us\n");
+        }
+
+        Latency latency = LatencyTrace.fromDurations(write(builder.toString())).inSequence();
+
+        assertThat(sample(latency, 1_000))
+                .containsExactly(LongStream.rangeClosed(1, 1_000).map(i -> i * 1_000).toArray());
+    }
+
+    @Test
+    void testInvalidDuration() throws IOException {
+        Path file = write("10ms\nfast\n");
+
+        assertThatThrownBy(() -> LatencyTrace.fromDurations(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid latency in " + file + " at line 2: fast");
+    }
+
+    @Test
+    void testInvalidHistogramCount() throws IOException {
+        Path file = write("10ms, -1\n");
+
+        assertThatThrownBy(() -> LatencyTrace.fromHistogram(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid latency in " + file + " at line 1: 10ms, -1");
+    }
+
+    @Test
+    void testMissingHistogramCount() throws IOException {
+        Path file = write("10ms\n");
+
+        assertThatThrownBy(() -> LatencyTrace.fromHistogram(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid latency in " + file + " at line 1: 10ms");
+    }
+
+    @Test
+    void testEmptyTrace() throws IOException {
+        Path file = write("# nothing recorded\n");
+
+        assertThatThrownBy(() -> LatencyTrace.fromDurations(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Latency trace " + file + " contains no latencies.");
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void testFile_null() {
+        assertThatThrownBy(() -> LatencyTrace.fromDurations(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'file' must not be null.");
+    }
+
+    private static long[] sample(Latency latency, int count) {
+        return sample(latency, count, 0L);
+    }
+
+    private static long[] sample(Latency latency, int count, long seed) {
+        Random random = new Random(seed);
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = latency.sampleNanos(random);
+        }
+        return samples;
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "trace", ".csv"), content);
+    }
+}
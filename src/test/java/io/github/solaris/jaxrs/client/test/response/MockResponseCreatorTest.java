@@ -12,6 +12,7 @@ import static jakarta.ws.rs.core.HttpHeaders.VARY;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML_TYPE;
 import static jakarta.ws.rs.core.MediaType.TEXT_HTML;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
 import static jakarta.ws.rs.core.MediaType.WILDCARD;
 import static jakarta.ws.rs.core.NewCookie.SameSite.NONE;
 import static jakarta.ws.rs.core.NewCookie.SameSite.STRICT;
@@ -30,11 +31,20 @@ import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import jakarta.ws.rs.client.Client;
@@ -44,20 +54,28 @@ import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.Variant;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.Dto;
 import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
 import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
 
 class MockResponseCreatorTest {
 
+    @TempDir
+    private Path tempDir;
+
     @JaxRsVendorTest
     void testResponseWithStatus() throws IOException {
         try (Response response = new MockResponseCreator(OK).createResponse(new MockClientRequestContext())) {
@@ -218,6 +236,204 @@ class MockResponseCreatorTest {
         }
     }
 
+    @JaxRsVendorTest
+    void testRespondWithDelay() throws IOException {
+        long start = System.nanoTime();
+        try (Response response = new MockResponseCreator(OK).delay(Duration.ofMillis(100)).createResponse(new MockClientRequestContext())) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithDelay_concurrentRequests() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        server.expect(ExpectedCount.times(10), anything()).andRespond(new MockResponseCreator(OK).delay(Duration.ofMillis(200)));
+
+        long start = System.nanoTime();
+        try (client) {
+            List<Future<Response>> responses = IntStream.range(0, 10)
+                    .mapToObj(i -> client.target("").request().async().get())
+                    .toList();
+            assertThat(responses).allSatisfy(
+                    future -> assertThat(future).succeedsWithin(Duration.ofSeconds(5))
+                            .satisfies(response -> assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK))
+            );
+        }
+        // Sequential delays would take 2 seconds
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isBetween(Duration.ofMillis(200), Duration.ofMillis(1000));
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithSeededLatency() throws IOException {
+        List<Long> samples = new ArrayList<>();
+        Latency latency = random -> {
+            samples.add(random.nextLong(1_000));
+            return 0;
+        };
+        MockResponseCreator first = new MockResponseCreator(OK).delay(latency, 42L);
+        MockResponseCreator second = new MockResponseCreator(OK).delay(latency, 42L);
+
+        for (int i = 0; i < 3; i++) {
+            first.createResponse(new MockClientRequestContext()).close();
+        }
+        for (int i = 0; i < 3; i++) {
+            second.createResponse(new MockClientRequestContext()).close();
+        }
+
+        assertThat(samples.subList(0, 3)).containsExactlyElementsOf(samples.subList(3, 6));
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithEntityFromFile() throws IOException {
+        byte[] content = new byte[1 << 20];
+        try (InputStream generated = GeneratedInputStream.seeded(content.length, 42L)) {
+            generated.readNBytes(content, 0, content.length);
+        }
+        Path file = Files.write(tempDir.resolve("download.bin"), content);
+
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(new MockResponseCreator(OK).entityFromFile(file));
+
+        try (client) {
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.target("").request().get()) {
+                    assertThat(response.getLength()).isEqualTo(content.length);
+                    assertThat(response.readEntity(byte[].class)).isEqualTo(content);
+                }
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithGeneratedEntity() throws IOException {
+        long size = 16L * 1024 * 1024 + 3;
+        MockResponseCreator responseCreator = new MockResponseCreator(OK).entityGenerated(size, 42L);
+
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(responseCreator);
+
+        try (client) {
+            try (Response response = client.target("").request().get(); InputStream body = response.readEntity(InputStream.class)) {
+                assertThat(response.getLength()).isEqualTo(size);
+                assertThat(body.transferTo(OutputStream.nullOutputStream())).isEqualTo(size);
+            }
+            try (Response response = client.target("").request().get(); InputStream body = response.readEntity(InputStream.class)) {
+                assertThat(body.readNBytes(4096))
+                        .isEqualTo(GeneratedInputStream.seeded(size, 42L).readNBytes(4096))
+                        .isNotEqualTo(GeneratedInputStream.seeded(size, 43L).readNBytes(4096));
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithGeneratedPattern() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(new MockResponseCreator(OK).entityGenerated(10, "abc".getBytes(UTF_8)).freeze());
+
+        try (client) {
+            assertThat(client.target("").request().get(String.class)).isEqualTo("abcabcabca");
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testFrozenResponse() {
+        Dto dto = new Dto("hello");
+        NewCookie cookie = new NewCookie.Builder("theme").value("dark").build();
+        Link next = Link.fromUri("http://local.host?page=2").rel("next").build();
+        MockResponseCreator responseCreator = new MockResponseCreator(OK)
+                .entity(dto)
+                .mediaType(APPLICATION_JSON_TYPE)
+                .header("X-Custom", "Custom-X")
+                .cookies(cookie)
+                .links(next)
+                .freeze();
+
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(3), anything()).andRespond(responseCreator);
+
+        try (client) {
+            for (int i = 0; i < 3; i++) {
+                try (Response response = client.target("").request().get()) {
+                    assertThat(response).satisfies(
+                            r -> assertThat(r.readEntity(Dto.class)).isEqualTo(dto),
+                            r -> assertThat(r.getHeaderString("X-Custom")).isEqualTo("Custom-X"),
+                            r -> assertThat(r.getCookies()).containsKey("theme"),
+                            r -> assertThat(r.getLink("next")).isEqualTo(next)
+                    );
+                }
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testFrozenResponse_serializedOnce() {
+        AtomicInteger writes = new AtomicInteger();
+        StreamingOutput entity = output -> {
+            writes.incrementAndGet();
+            output.write("hello".getBytes(UTF_8));
+        };
+        MockResponseCreator responseCreator = new MockResponseCreator(OK)
+                .entity(entity)
+                .mediaType(TEXT_PLAIN_TYPE)
+                .freeze();
+
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(5), anything()).andRespond(responseCreator);
+
+        try (client) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(client.target("").request().get(String.class)).isEqualTo("hello");
+            }
+        }
+        server.verify();
+        assertThat(writes).hasValue(1);
+    }
+
+    @JaxRsVendorTest
+    void testFrozenResponseWithoutMediaType() {
+        MockResponseCreator responseCreator = new MockResponseCreator(OK)
+                .entity("hello")
+                .freeze();
+
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(responseCreator);
+
+        try (client) {
+            assertThat(client.target("").request().get(String.class)).isEqualTo("hello");
+            assertThat(client.target("").request().get(String.class)).isEqualTo("hello");
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testFrozenResponse_modification() {
+        MockResponseCreator responseCreator = new MockResponseCreator(OK).freeze();
+
+        assertThat(responseCreator.freeze()).isSameAs(responseCreator);
+        assertThatThrownBy(() -> responseCreator.entity("hello"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The MockResponseCreator is frozen and can no longer be modified.");
+        assertThatThrownBy(() -> responseCreator.header(ACCEPT, WILDCARD))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> responseCreator.delay(Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @ParameterizedTest
     @MethodSource("invalidArguments")
     void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
@@ -240,7 +456,27 @@ class MockResponseCreatorTest {
                 argumentSet("testLinks_null",
                         (ThrowingCallable) () -> new MockResponseCreator(OK).links((Link[]) null), "'links' must not be null."),
                 argumentSet("testVariants_null",
-                        (ThrowingCallable) () -> new MockResponseCreator(OK).variants((Variant[]) null), "'variants' must not be null.")
-                );
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).variants((Variant[]) null), "'variants' must not be null."),
+                argumentSet("testEntityFromFile_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityFromFile(null), "'file' must not be null."),
+                argumentSet("testEntityFromFile_directory",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityFromFile(Path.of("")), "'file' must be a regular file but was "),
+                argumentSet("testEntityGenerated_seed_negativeSize",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityGenerated(-1, 42L), "'size' must not be negative."),
+                argumentSet("testEntityGenerated_pattern_negativeSize",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityGenerated(-1, new byte[1]), "'size' must not be negative."),
+                argumentSet("testEntityGenerated_pattern_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityGenerated(1, null), "'pattern' must not be null."),
+                argumentSet("testEntityGenerated_pattern_empty",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).entityGenerated(1, new byte[0]), "'pattern' must not be empty."),
+                argumentSet("testDelay_duration_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay((Duration) null), "'delay' must not be null."),
+                argumentSet("testDelay_duration_negative",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay(Duration.ofMillis(-1)), "'delay' must not be negative."),
+                argumentSet("testDelay_latency_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay((Latency) null), "'latency' must not be null."),
+                argumentSet("testDelay_seededLatency_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay(null, 42L), "'latency' must not be null.")
+        );
     }
 }
@@ -27,6 +27,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.IOException;
 import java.net.SocketException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -204,6 +207,52 @@ class MockResponseCreatorsTest {
                 .hasMessage("'ioe' must not be null.");
     }
 
+    @JaxRsVendorTest
+    void testDelay() throws IOException {
+        ResponseCreator responseCreator = MockResponseCreators.withDelay(MockResponseCreators.withAccepted(), Latency.fixed(Duration.ofMillis(100)));
+
+        long start = System.nanoTime();
+        try (Response response = responseCreator.createResponse(new MockClientRequestContext())) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(ACCEPTED);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void testDelay_seeded() throws IOException {
+        List<Long> samples = new ArrayList<>();
+        Latency latency = random -> {
+            samples.add(random.nextLong());
+            return 0;
+        };
+
+        MockResponseCreators.withDelay(request -> null, latency, 42L).createResponse(new MockClientRequestContext());
+        MockResponseCreators.withDelay(request -> null, latency, 42L).createResponse(new MockClientRequestContext());
+
+        assertThat(samples).hasSize(2).containsOnly(samples.get(0));
+    }
+
+    @Test
+    void testDelay_exception() {
+        ResponseCreator responseCreator = MockResponseCreators.withDelay(
+                MockResponseCreators.withException(new SocketException("Connection Reset")), Latency.fixed(Duration.ZERO));
+
+        assertThatThrownBy(() -> responseCreator.createResponse(new MockClientRequestContext()))
+                .isInstanceOf(SocketException.class)
+                .hasMessage("Connection Reset");
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void testDelay_null() {
+        assertThatThrownBy(() -> MockResponseCreators.withDelay(null, Latency.fixed(Duration.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'responseCreator' must not be null.");
+        assertThatThrownBy(() -> MockResponseCreators.withDelay(MockResponseCreators.withSuccess(), null, 42L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'latency' must not be null.");
+    }
+
     @Nested
     @RunInQuarkus
     @EnableJackson3
@@ -0,0 +1,196 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withPages;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.Dto;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class PagingResponseCreatorTest {
+    private static final GenericType<List<Dto>> DTOS = new GenericType<>() {};
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testPageNumbers() {
+        AtomicLong computed = new AtomicLong();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(withPages(5_000_000, i -> {
+            computed.incrementAndGet();
+            return record(i);
+        }));
+
+        try (Response response = client.target("/records").queryParam("page", 3).queryParam("size", 2).request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            assertThat(response.getHeaderString("X-Total-Count")).isEqualTo("5000000");
+            assertThat(response.readEntity(DTOS)).containsExactly(new Dto(4), new Dto(5));
+            assertThat(response.getLink("first").getUri()).isEqualTo(URI.create("/records?page=1&size=2"));
+            assertThat(response.getLink("prev").getUri()).isEqualTo(URI.create("/records?page=2&size=2"));
+            assertThat(response.getLink("next").getUri()).isEqualTo(URI.create("/records?page=4&size=2"));
+            assertThat(response.getLink("last").getUri()).isEqualTo(URI.create("/records?page=2500000&size=2"));
+        }
+        assertThat(computed).hasValue(2);
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testDefaults() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(withPages(50, PagingResponseCreatorTest::record).maxPageSize(30));
+
+        try (Response response = client.target("/records").request().get()) {
+            assertThat(response.readEntity(DTOS)).hasSize(20).startsWith(new Dto(0));
+            assertThat(response.getLinks()).extracting(Link::getRel).containsExactlyInAnyOrder("first", "next", "last");
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testMaxPageSize() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(withPages(50, PagingResponseCreatorTest::record).maxPageSize(30));
+
+        try (Response response = client.target("/records").queryParam("size", 100).request().get()) {
+            assertThat(response.readEntity(DTOS)).hasSize(30);
+            assertThat(response.getLink("next").getUri()).isEqualTo(URI.create("/records?page=2&size=30"));
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testOffsets() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(withPages(List.of(new Dto("a"), new Dto("b"), new Dto("c"))).offsets("offset", "limit"));
+
+        try (Response response = client.target("/records").queryParam("offset", 2).queryParam("limit", 2).request().get()) {
+            assertThat(response.readEntity(DTOS)).containsExactly(new Dto("c"));
+            assertThat(response.getLink("prev").getUri()).isEqualTo(URI.create("/records?offset=0&limit=2"));
+            assertThat(response.getLink("next")).isNull();
+            assertThat(response.getLink("last").getUri()).isEqualTo(URI.create("/records?offset=2&limit=2"));
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testCursors() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(4), anything()).andRespond(withPages(10, PagingResponseCreatorTest::record).cursors("cursor", "limit"));
+
+        List<Dto> records = new ArrayList<>();
+        URI next = URI.create("/records?limit=3");
+        while (next != null) {
+            try (Response response = client.target(next).request().get()) {
+                records.addAll(response.readEntity(DTOS));
+                Link nextLink = response.getLink("next");
+                if (nextLink != null) {
+                    assertThat(nextLink.getUri().getQuery()).contains("cursor=" + response.getHeaderString("X-Next-Cursor"));
+                    assertThat(response.getLink("last")).isNull();
+                } else {
+                    assertThat(response.getHeaderString("X-Next-Cursor")).isNull();
+                }
+                next = nextLink != null ? nextLink.getUri() : null;
+            }
+        }
+
+        assertThat(records).extracting(Dto::something).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testInvalidPage() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(4), anything()).andRespond(withPages(10, PagingResponseCreatorTest::record));
+
+        for (String query : List.of("page=0", "page=abc", "size=-1", "page=99999999999999999999")) {
+            try (Response response = client.target("/records?" + query).request().get()) {
+                assertThat(response.getStatusInfo().toEnum()).as(query).isEqualTo(BAD_REQUEST);
+            }
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testInvalidCursor() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(withPages(10, PagingResponseCreatorTest::record).cursors("cursor", "limit"));
+
+        try (Response response = client.target("/records").queryParam("cursor", "Zm9v").request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(BAD_REQUEST);
+        }
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithPages_totalCount_negative",
+                        (ThrowingCallable) () -> withPages(-1, PagingResponseCreatorTest::record), "'totalCount' must not be negative."),
+                argumentSet("testWithPages_records_null",
+                        (ThrowingCallable) () -> withPages(1, null), "'records' must not be null."),
+                argumentSet("testWithPages_list_null",
+                        (ThrowingCallable) () -> withPages(null), "'records' must not be null."),
+                argumentSet("testPageNumbers_pageParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).pageNumbers(null, "size"), "'pageParam' must not be null."),
+                argumentSet("testPageNumbers_sizeParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).pageNumbers("page", null), "'sizeParam' must not be null."),
+                argumentSet("testOffsets_offsetParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).offsets(null, "limit"), "'offsetParam' must not be null."),
+                argumentSet("testOffsets_limitParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).offsets("offset", null), "'limitParam' must not be null."),
+                argumentSet("testCursors_cursorParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).cursors(null, "limit"), "'cursorParam' must not be null."),
+                argumentSet("testCursors_limitParam_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).cursors("cursor", null), "'limitParam' must not be null."),
+                argumentSet("testDefaultPageSize_zero",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).defaultPageSize(0), "'defaultPageSize' must be positive."),
+                argumentSet("testMaxPageSize_zero",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).maxPageSize(0), "'maxPageSize' must be positive."),
+                argumentSet("testMediaType_null",
+                        (ThrowingCallable) () -> withPages(1, PagingResponseCreatorTest::record).mediaType(null), "'mediaType' must not be null.")
+        );
+    }
+
+    private static Dto record(long index) {
+        return new Dto(Math.toIntExact(index));
+    }
+}
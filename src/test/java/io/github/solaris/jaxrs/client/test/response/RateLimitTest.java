@@ -0,0 +1,184 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withRateLimit;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.HttpHeaders.RETRY_AFTER;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class RateLimitTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    private final VirtualClock clock = VirtualClock.create();
+
+    @JaxRsVendorTest
+    void testBurstThenThrottle() {
+        RateLimit rateLimit = RateLimit.of(2, Duration.ofSeconds(10));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(4), requestTo("/search")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+        try (Response response = client.target("/search").request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(TOO_MANY_REQUESTS);
+            assertThat(response.getHeaderString(RETRY_AFTER)).isEqualTo("5");
+        }
+
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+
+        server.verify();
+        assertThat(rateLimit.getPermittedCount()).isEqualTo(3);
+        assertThat(rateLimit.getThrottledCount()).isOne();
+    }
+
+    @JaxRsVendorTest
+    void testRetryAfter_roundedUp() {
+        RateLimit rateLimit = RateLimit.of(1, Duration.ofSeconds(10));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(2), requestTo("/search")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+        clock.advance(Duration.ofMillis(9_500));
+
+        try (Response response = client.target("/search").request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(TOO_MANY_REQUESTS);
+            assertThat(response.getHeaderString(RETRY_AFTER)).isEqualTo("1");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testBurst() {
+        RateLimit rateLimit = RateLimit.of(10, Duration.ofSeconds(1), 1);
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(3), requestTo("/search")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+        assertThat(get()).isEqualTo(TOO_MANY_REQUESTS.getStatusCode());
+
+        clock.advance(Duration.ofMillis(100));
+        assertThat(get()).isEqualTo(OK.getStatusCode());
+    }
+
+    @JaxRsVendorTest
+    void testSharedAcrossExpectations() {
+        RateLimit rateLimit = RateLimit.of(1, Duration.ofMinutes(1));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/first")).andRespond(withRateLimit(withSuccess(), rateLimit));
+        server.expect(requestTo("/second")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        assertThat(status("/first")).isEqualTo(OK.getStatusCode());
+        assertThat(status("/second")).isEqualTo(TOO_MANY_REQUESTS.getStatusCode());
+    }
+
+    @JaxRsVendorTest
+    void testConcurrentRequests() throws Exception {
+        RateLimit rateLimit = RateLimit.of(10, Duration.ofMinutes(1));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(100), requestTo("/search")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 100; i++) {
+                statuses.add(executor.submit((Callable<Integer>) this::get));
+            }
+        }
+
+        int ok = 0;
+        for (Future<Integer> status : statuses) {
+            if (status.get() == OK.getStatusCode()) {
+                ok++;
+            }
+        }
+        assertThat(ok).isEqualTo(10);
+        assertThat(rateLimit.getPermittedCount()).isEqualTo(10);
+        assertThat(rateLimit.getThrottledCount()).isEqualTo(90);
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testVerify_reportsThrottledRequests() {
+        RateLimit rateLimit = RateLimit.of(1, Duration.ofMinutes(1));
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(ExpectedCount.times(3), requestTo("/search")).andRespond(withRateLimit(withSuccess(), rateLimit));
+
+        get();
+        get();
+
+        assertThatThrownBy(server::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("""
+                        Further request(s) expected leaving 1 unsatisfied expectation(s).
+                        2 request(s) executed, 1 of them throttled by a rate limit:
+                        GET /search
+                        GET /search (throttled)
+                        """);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testOf_period_null",
+                        (ThrowingCallable) () -> RateLimit.of(1, null), "'period' must not be null."),
+                argumentSet("testOf_period_zero",
+                        (ThrowingCallable) () -> RateLimit.of(1, Duration.ZERO), "'period' must be positive."),
+                argumentSet("testOf_permits_zero",
+                        (ThrowingCallable) () -> RateLimit.of(0, Duration.ofSeconds(1)), "'permits' must be positive."),
+                argumentSet("testOf_burst_negative",
+                        (ThrowingCallable) () -> RateLimit.of(1, Duration.ofSeconds(1), -1), "'burst' must be positive."),
+                argumentSet("testWithRateLimit_responseCreator_null",
+                        (ThrowingCallable) () -> withRateLimit(null, RateLimit.of(1, Duration.ofSeconds(1))),
+                        "'responseCreator' must not be null."),
+                argumentSet("testWithRateLimit_rateLimit_null",
+                        (ThrowingCallable) () -> withRateLimit(withSuccess(), null), "'rateLimit' must not be null.")
+        );
+    }
+
+    private int get() {
+        return status("/search");
+    }
+
+    private int status(String uri) {
+        try (Response response = client.target(uri).request().get()) {
+            return response.getStatus();
+        }
+    }
+}
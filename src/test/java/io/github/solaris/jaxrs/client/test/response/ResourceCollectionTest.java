@@ -0,0 +1,228 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withResources;
+import static jakarta.ws.rs.core.HttpHeaders.ALLOW;
+import static jakarta.ws.rs.core.HttpHeaders.IF_MATCH;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
+import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.PRECONDITION_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ResourceCollectionTest {
+    private static final GenericType<List<User>> USERS = new GenericType<>() {};
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testCrud() {
+        ResourceCollection<User> users = users();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.min(1), anything()).andRespond(users);
+
+        try (Response response = client.target("https://api.example.com/users").request().post(Entity.json(new User(null, "Jane", "jane@example.com")))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(CREATED);
+            assertThat(response.getLocation()).isEqualTo(URI.create("https://api.example.com/users/1"));
+            assertThat(response.getEntityTag().getValue()).isEqualTo("1");
+            assertThat(response.readEntity(User.class)).isEqualTo(new User(1L, "Jane", "jane@example.com"));
+        }
+        client.target("/users").request().post(Entity.json(new User(null, "John", "john@example.com"))).close();
+
+        assertThat(client.target("/users/1").request().get(User.class)).isEqualTo(new User(1L, "Jane", "jane@example.com"));
+        assertThat(client.target("/users").request().get(USERS)).extracting(User::name).containsExactly("Jane", "John");
+
+        try (Response response = client.target("/users/1").request().header(IF_MATCH, "\"1\"").put(Entity.json(new User(null, "Jane", "jane@example.org")))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            assertThat(response.getEntityTag().getValue()).isEqualTo("3");
+        }
+        try (Response response = client.target("/users/1").request().header(IF_MATCH, "\"1\"").put(Entity.json(new User(null, "Stale", null)))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(PRECONDITION_FAILED);
+        }
+        try (Response response = client.target("/users/1").request().method("PATCH", Entity.json(new User(null, "Janet", null)))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            assertThat(response.readEntity(User.class)).isEqualTo(new User(1L, "Janet", "jane@example.org"));
+        }
+        try (Response response = client.target("/users/2").request().delete()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(NO_CONTENT);
+        }
+        try (Response response = client.target("/users/2").request().get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(NOT_FOUND);
+        }
+
+        assertThat(users.size()).isEqualTo(1);
+        assertThat(users.get("1")).isEqualTo(new User(1L, "Janet", "jane@example.org"));
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testConditionalGet() {
+        ResourceCollection<User> users = users().put("jane", new User(null, "Jane", null));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(users);
+
+        try (Response response = client.target("/users/jane").request().header(IF_NONE_MATCH, "\"1\"").get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(NOT_MODIFIED);
+            assertThat(response.getEntityTag().getValue()).isEqualTo("1");
+        }
+        try (Response response = client.target("/users/jane").request().header(IF_NONE_MATCH, "\"0\"").get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testRecreatedResourceGetsNewVersion() {
+        ResourceCollection<User> users = users().put("jane", new User(null, "Jane", null));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(4), anything()).andRespond(users);
+
+        client.target("/users/jane").request().delete().close();
+        try (Response response = client.target("/users/jane").request().put(Entity.json(new User(null, "Other Jane", null)))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(CREATED);
+            assertThat(response.getEntityTag().getValue()).isNotEqualTo("1");
+        }
+        try (Response response = client.target("/users/jane").request().header(IF_NONE_MATCH, "\"1\"").get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+        }
+        try (Response response = client.target("/users/jane").request().header(IF_MATCH, "\"1\"").delete()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(PRECONDITION_FAILED);
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testIfMatchUsesStrongComparison() {
+        ResourceCollection<User> users = users().put("jane", new User(null, "Jane", null));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(users);
+
+        try (Response response = client.target("/users/jane").request().header(IF_MATCH, "W/\"1\"").delete()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(PRECONDITION_FAILED);
+        }
+        try (Response response = client.target("/users/jane").request().header(IF_NONE_MATCH, "W/\"1\"").get()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(NOT_MODIFIED);
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testMethodNotAllowed() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(withResources("/users", User.class));
+
+        try (Response response = client.target("/users/1").request().method("PATCH", Entity.json("{}"))) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(METHOD_NOT_ALLOWED);
+            assertThat(response.getHeaderString(ALLOW)).isEqualTo("GET, PUT, DELETE");
+        }
+        try (Response response = client.target("/users").request().delete()) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(METHOD_NOT_ALLOWED);
+            assertThat(response.getHeaderString(ALLOW)).isEqualTo("GET, POST");
+        }
+        server.verify();
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testConcurrentRequests() throws Exception {
+        ResourceCollection<User> users = users().put("shared", new User(null, "Shared", null));
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.min(1), anything()).andRespond(users);
+
+        List<Future<Integer>> replacements = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 400).forEach(i -> executor.submit(() ->
+                    client.target("/users").request().post(Entity.json(new User(null, "user-" + i, null))).close()));
+            for (int i = 0; i < 8; i++) {
+                replacements.add(executor.submit(() -> {
+                    try (Response response = client.target("/users/shared").request().header(IF_MATCH, "\"1\"").put(Entity.json(new User(null, "X", null)))) {
+                        return response.getStatus();
+                    }
+                }));
+            }
+        }
+
+        assertThat(users.size()).isEqualTo(401);
+        assertThat(users.get("400")).isNotNull();
+        assertThat(replacements).extracting(Future::get).containsOnlyOnce(OK.getStatusCode());
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithResources_path_null",
+                        (ThrowingCallable) () -> withResources(null, User.class), "'path' must not be null."),
+                argumentSet("testWithResources_type_null",
+                        (ThrowingCallable) () -> withResources("/users", null), "'type' must not be null."),
+                argumentSet("testAssignIds_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).assignIds(null), "'idAssigner' must not be null."),
+                argumentSet("testPatchWith_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).patchWith(null), "'patcher' must not be null."),
+                argumentSet("testMediaType_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).mediaType(null), "'mediaType' must not be null."),
+                argumentSet("testPut_id_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).put(null, new User(null, null, null)), "'id' must not be null."),
+                argumentSet("testPut_resource_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).put("1", null), "'resource' must not be null."),
+                argumentSet("testGet_id_null",
+                        (ThrowingCallable) () -> withResources("/users", User.class).get(null), "'id' must not be null.")
+        );
+    }
+
+    private static ResourceCollection<User> users() {
+        return withResources("/users", User.class)
+                .assignIds((user, id) -> new User(id.chars().allMatch(Character::isDigit) ? Long.valueOf(id) : null, user.name(), user.email()))
+                .patchWith((current, patch) -> new User(current.id(),
+                        patch.name() != null ? patch.name() : current.name(),
+                        patch.email() != null ? patch.email() : current.email()));
+    }
+
+    public record User(@Nullable Long id, @Nullable String name, @Nullable String email) {}
+}
@@ -0,0 +1,307 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withCache;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.EXPIRES;
+import static jakarta.ws.rs.core.HttpHeaders.IF_MODIFIED_SINCE;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static jakarta.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.jspecify.annotations.NullUnmarked;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.server.VirtualClock;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+@NullUnmarked
+class ResponseCacheTest {
+    private static final Map<String, AtomicInteger> CALLS = new ConcurrentHashMap<>();
+
+    private static volatile CountDownLatch slowRelease;
+    private static HttpServer httpServer;
+    private static URI baseUri;
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    private final VirtualClock clock = VirtualClock.create();
+    private MockRestServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/max-age", exchange -> respond(exchange, 200, "max-age=60", null));
+        httpServer.createContext("/no-store", exchange -> respond(exchange, 200, "no-store", null));
+        httpServer.createContext("/etag", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                respond(exchange, 304, "no-cache", "\"v1\"");
+            } else {
+                respond(exchange, 200, "no-cache", "\"v1\"");
+            }
+        });
+        httpServer.createContext("/slow", exchange -> {
+            try {
+                slowRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "max-age=60", null);
+        });
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        httpServer.start();
+        baseUri = URI.create("http://localhost:" + httpServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        httpServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        CALLS.clear();
+        slowRelease = new CountDownLatch(1);
+        server = MockRestServer.bindTo(client).withClock(clock).build();
+    }
+
+    @JaxRsVendorTest
+    void testMaxAge() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(3), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        assertThat(get("/max-age")).isEqualTo("/max-age 1");
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(get("/max-age")).isEqualTo("/max-age 1");
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(get("/max-age")).isEqualTo("/max-age 2");
+
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isOne();
+    }
+
+    @JaxRsVendorTest
+    void testNoStore() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(2), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        assertThat(get("/no-store")).isEqualTo("/no-store 1");
+        assertThat(get("/no-store")).isEqualTo("/no-store 2");
+
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testETagRevalidation() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(3), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        assertThat(get("/etag")).isEqualTo("/etag 1");
+        assertThat(get("/etag")).isEqualTo("/etag 1");
+        assertThat(get("/etag")).isEqualTo("/etag 1");
+
+        assertThat(CALLS.get("/etag")).hasValue(3);
+        assertThat(cache.getRevalidationCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testRequestNoCache() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(2), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        assertThat(get("/max-age")).isEqualTo("/max-age 1");
+        try (Response response = client.target(baseUri + "/max-age").request().header(CACHE_CONTROL, "no-cache").get()) {
+            assertThat(response.readEntity(String.class)).isEqualTo("/max-age 2");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testLeastRecentlyUsedEvicted() {
+        ResponseCache cache = ResponseCache.withMaxEntries(2);
+        server.expect(ExpectedCount.times(5), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        get("/max-age/1");
+        get("/max-age/2");
+        get("/max-age/1");
+        get("/max-age/3");
+        assertThat(get("/max-age/1")).isEqualTo("/max-age 1");
+
+        assertThat(cache.getEvictionCount()).isOne();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @JaxRsVendorTest
+    void testNotCached_post() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(2), anything()).andRespond(withCache(withSuccess(), cache));
+
+        client.target(baseUri + "/max-age").request().post(Entity.text("hello")).close();
+        client.target(baseUri + "/max-age").request().post(Entity.text("hello")).close();
+
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testConcurrentRequestsShareOneCall() throws Exception {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        server.expect(ExpectedCount.times(8), anything()).andRespond(withCache(new ExecutingResponseCreator(), cache));
+
+        List<Future<String>> bodies = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                bodies.add(executor.submit(() -> get("/slow")));
+            }
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.getCoalescedCount() < 7 && System.nanoTime() - end < 0) {
+                Thread.onSpinWait();
+            }
+            slowRelease.countDown();
+        }
+
+        for (Future<String> body : bodies) {
+            assertThat(body.get()).isEqualTo("/slow 1");
+        }
+        assertThat(CALLS.get("/slow")).hasValue(1);
+        assertThat(cache.getMissCount()).isOne();
+    }
+
+    @JaxRsVendorTest
+    void testRevalidation_keepsConditionalHeaderOfClient() {
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        List<MultivaluedMap<String, Object>> seenHeaders = new ArrayList<>();
+        AtomicReference<ClientRequestContext> lastRequest = new AtomicReference<>();
+        ResponseCreator upstream = request -> {
+            seenHeaders.add(new MultivaluedHashMap<>(request.getHeaders()));
+            lastRequest.set(request);
+            return withSuccess("hello", TEXT_PLAIN_TYPE)
+                    .header(CACHE_CONTROL, "no-cache")
+                    .header(ETAG, "\"v1\"")
+                    .header(LAST_MODIFIED, "Thu, 01 Jan 2026 00:00:00 GMT")
+                    .createResponse(request);
+        };
+        server.expect(ExpectedCount.times(2), anything()).andRespond(withCache(upstream, cache));
+
+        assertThat(get("/conditional")).isEqualTo("hello");
+        try (Response response = client.target(baseUri + "/conditional").request().header(IF_NONE_MATCH, "\"v0\"").get()) {
+            assertThat(response.readEntity(String.class)).isEqualTo("hello");
+        }
+
+        assertThat(seenHeaders.get(1)).containsKeys(IF_NONE_MATCH, IF_MODIFIED_SINCE);
+        assertThat(lastRequest.get().getHeaders())
+                .containsEntry(IF_NONE_MATCH, List.of("\"v0\""))
+                .doesNotContainKey(IF_MODIFIED_SINCE);
+    }
+
+    @JaxRsVendorTest
+    void testExpires_usesClockOfServer() {
+        VirtualClock pastClock = VirtualClock.startingAt(Instant.parse("2000-01-01T00:00:00Z"));
+        MockRestServer pastServer = MockRestServer.bindTo(client).withClock(pastClock).build();
+        ResponseCache cache = ResponseCache.withMaxEntries(10);
+        pastServer.expect(ExpectedCount.times(3), anything())
+                .andRespond(withCache(withSuccess("hello", TEXT_PLAIN_TYPE).header(EXPIRES, "Sat, 01 Jan 2000 00:01:00 GMT"), cache));
+
+        get("/expires");
+        pastClock.advance(Duration.ofSeconds(59));
+        get("/expires");
+        pastClock.advance(Duration.ofSeconds(1));
+        get("/expires");
+
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithMaxEntries_zero",
+                        (ThrowingCallable) () -> ResponseCache.withMaxEntries(0), "'maxEntries' must be positive."),
+                argumentSet("testWithCache_responseCreator_null",
+                        (ThrowingCallable) () -> withCache(null, ResponseCache.withMaxEntries(1)), "'responseCreator' must not be null."),
+                argumentSet("testWithCache_cache_null",
+                        (ThrowingCallable) () -> withCache(withSuccess(), null), "'cache' must not be null.")
+        );
+    }
+
+    private String get(String path) {
+        try (Response response = client.target(baseUri + path).request().get()) {
+            return response.readEntity(String.class);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String cacheControl, String etag) throws IOException {
+        String context = exchange.getHttpContext().getPath();
+        int call = CALLS.computeIfAbsent(exchange.getRequestURI().getPath(), _ -> new AtomicInteger()).incrementAndGet();
+        exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        if (etag != null) {
+            exchange.getResponseHeaders().add("ETag", etag);
+        }
+
+        try (exchange) {
+            if (status == 304) {
+                exchange.sendResponseHeaders(status, -1);
+            } else {
+                byte[] body = (context + " " + call).getBytes(UTF_8);
+                exchange.sendResponseHeaders(status, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        }
+    }
+}
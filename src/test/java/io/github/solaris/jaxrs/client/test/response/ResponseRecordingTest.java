@@ -0,0 +1,215 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.jspecify.annotations.NullUnmarked;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+@NullUnmarked
+class ResponseRecordingTest {
+    private static final String ORDER = randomText(8_192);
+    private static final AtomicInteger SERVED = new AtomicInteger();
+
+    private static HttpServer httpServer;
+    private static URI baseUri;
+
+    @TempDir
+    private Path store;
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/orders", exchange -> respond(exchange, 200, ORDER));
+        httpServer.createContext("/echo", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                respond(exchange, 201, "echo: " + new String(body.readAllBytes(), UTF_8));
+            }
+        });
+        httpServer.createContext("/counter", exchange -> respond(exchange, 200, String.valueOf(SERVED.get() + 1)));
+        httpServer.start();
+        baseUri = URI.create("http://localhost:" + httpServer.getAddress().getPort());
+    }
+
+    @BeforeEach
+    void resetCounter() {
+        SERVED.set(0);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        httpServer.stop(0);
+    }
+
+    @JaxRsVendorTest
+    void testRecordAndReplay() throws IOException {
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            MockRestServer server = MockRestServer.bindTo(client).build();
+            server.expect(requestTo(baseUri + "/orders/1")).andRespond(recording.record(new ExecutingResponseCreator()));
+
+            try (Response response = client.target(baseUri + "/orders/1").request().get()) {
+                assertThat(response.getStatus()).isEqualTo(200);
+                assertThat(response.getHeaderString("X-Served-By")).isEqualTo("stand-in");
+                assertThat(response.readEntity(String.class)).isEqualTo(ORDER);
+            }
+            assertThat(recording.size()).isOne();
+        }
+        assertThat(SERVED).hasValue(1);
+
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            MockRestServer server = MockRestServer.bindTo(client).build();
+            server.expect(ExpectedCount.times(2), requestTo(baseUri + "/orders/1")).andRespond(recording.replay());
+
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.target(baseUri + "/orders/1").request().get()) {
+                    assertThat(response.getStatus()).isEqualTo(200);
+                    assertThat(response.getHeaderString("X-Served-By")).isEqualTo("stand-in");
+                    assertThat(response.readEntity(String.class)).isEqualTo(ORDER);
+                }
+            }
+            server.verify();
+        }
+        assertThat(SERVED).hasValue(1);
+    }
+
+    @JaxRsVendorTest
+    void testRequestBodyIsPartOfFingerprint() throws IOException {
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            MockRestServer server = MockRestServer.bindTo(client).build();
+            server.expect(ExpectedCount.times(2), method(HttpMethod.POST)).andRespond(recording.record(new ExecutingResponseCreator()));
+
+            client.target(baseUri + "/echo").request().post(Entity.entity("first", TEXT_PLAIN)).close();
+            client.target(baseUri + "/echo").request().post(Entity.entity("second", TEXT_PLAIN)).close();
+
+            server.reset();
+            server.expect(ExpectedCount.times(2), method(HttpMethod.POST)).andRespond(recording.replay());
+
+            try (Response response = client.target(baseUri + "/echo").request().post(Entity.entity("second", TEXT_PLAIN))) {
+                assertThat(response.getStatus()).isEqualTo(201);
+                assertThat(response.readEntity(String.class)).isEqualTo("echo: second");
+            }
+            try (Response response = client.target(baseUri + "/echo").request().post(Entity.entity("first", TEXT_PLAIN))) {
+                assertThat(response.readEntity(String.class)).isEqualTo("echo: first");
+            }
+        }
+    }
+
+    @JaxRsVendorTest
+    void testIdenticalBodiesStoredOnce() throws IOException {
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            MockRestServer server = MockRestServer.bindTo(client).build();
+            server.expect(requestTo(baseUri + "/orders/1")).andRespond(recording.record(new ExecutingResponseCreator()));
+            server.expect(requestTo(baseUri + "/orders/2")).andRespond(recording.record(new ExecutingResponseCreator()));
+
+            client.target(baseUri + "/orders/1").request().get().close();
+            long sizeAfterFirst = dataSize();
+            client.target(baseUri + "/orders/2").request().get().close();
+
+            assertThat(recording.size()).isEqualTo(2);
+            assertThat(sizeAfterFirst).isGreaterThan(4_096);
+            assertThat(dataSize() - sizeAfterFirst).isLessThan(512);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testLatestRecordingReplayed() throws IOException {
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            MockRestServer server = MockRestServer.bindTo(client).build();
+            server.expect(ExpectedCount.times(2), requestTo(baseUri + "/counter")).andRespond(recording.record(new ExecutingResponseCreator()));
+
+            client.target(baseUri + "/counter").request().get().close();
+            client.target(baseUri + "/counter").request().get().close();
+
+            server.reset();
+            server.expect(requestTo(baseUri + "/counter")).andRespond(recording.replay());
+
+            try (Response response = client.target(baseUri + "/counter").request().get()) {
+                assertThat(response.readEntity(String.class)).isEqualTo("2");
+            }
+        }
+    }
+
+    @Test
+    void testReplay_notRecorded() throws IOException {
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            ResponseCreator replay = recording.replay();
+
+            assertThatThrownBy(() -> replay.createResponse(new MockClientRequestContext("GET", "/missing")))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessage("No recorded response for HTTP GET /missing in " + store);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void testArgumentValidation() throws IOException {
+        assertThatThrownBy(() -> ResponseRecording.open(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'directory' must not be null.");
+
+        try (ResponseRecording recording = ResponseRecording.open(store)) {
+            assertThatThrownBy(() -> recording.record(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("'responseCreator' must not be null.");
+        }
+    }
+
+    private long dataSize() throws IOException {
+        return Files.size(store.resolve("responses.dat"));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        SERVED.incrementAndGet();
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("X-Served-By", "stand-in");
+        exchange.getResponseHeaders().add("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (exchange) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private static String randomText(int length) {
+        Random random = new Random(42L);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withNoContent;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSequence;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withServiceUnavailable;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withStatus;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static jakarta.ws.rs.core.Response.Status.ACCEPTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.FilterExceptionAssert;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ScenarioTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testSequence() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(4), anything())
+                .andRespond(withSequence(withServiceUnavailable(), withServiceUnavailable(), withSuccess("done", TEXT_PLAIN_TYPE)));
+
+        assertThat(statusOf(client.target("/retry").request().get())).isEqualTo(503);
+        assertThat(statusOf(client.target("/retry").request().get())).isEqualTo(503);
+        assertThat(client.target("/retry").request().get(String.class)).isEqualTo("done");
+        assertThat(client.target("/retry").request().get(String.class)).isEqualTo("done");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testScenarioSharedBetweenExpectations() {
+        Scenario job = Scenario.named("job");
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(3), requestTo("/jobs/1")).andExpect(method("GET")).andRespond(job.respond()
+                .inState(Scenario.STARTED, withSuccess("PENDING", TEXT_PLAIN_TYPE))
+                .inState("DONE", withSuccess("DONE", TEXT_PLAIN_TYPE)));
+        server.expect(requestTo("/jobs/1")).andExpect(method("POST")).andRespond(job.respond()
+                .inState(Scenario.STARTED, withStatus(ACCEPTED), "DONE")
+                .otherwise(withStatus(409)));
+
+        assertThat(client.target("/jobs/1").request().get(String.class)).isEqualTo("PENDING");
+        assertThat(statusOf(client.target("/jobs/1").request().post(Entity.text("")))).isEqualTo(202);
+        assertThat(job.getState()).isEqualTo("DONE");
+        assertThat(client.target("/jobs/1").request().get(String.class)).isEqualTo("DONE");
+
+        job.reset();
+        assertThat(client.target("/jobs/1").request().get(String.class)).isEqualTo("PENDING");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testOtherwise() {
+        Scenario scenario = Scenario.named("scenario", "A");
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), anything()).andRespond(scenario.respond()
+                .inState("A", withNoContent(), "B")
+                .otherwise(withStatus(409)));
+
+        assertThat(statusOf(client.target("/").request().get())).isEqualTo(204);
+        assertThat(statusOf(client.target("/").request().get())).isEqualTo(409);
+        assertThat(scenario.getState()).isEqualTo("B");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testNoResponseInState(FilterExceptionAssert filterExceptionAssert) {
+        Scenario scenario = Scenario.named("scenario");
+        scenario.setState("UNKNOWN");
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(anything()).andRespond(scenario.respond().inState(Scenario.STARTED, withNoContent()));
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/").request().get())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Scenario 'scenario' has no response in state 'UNKNOWN'.");
+    }
+
+    @JaxRsVendorTest
+    void testConcurrentTransitions() throws Exception {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(200), anything())
+                .andRespond(withSequence(withStatus(201), withStatus(202), withStatus(203), withNoContent()));
+
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                statuses.add(executor.submit(() -> statusOf(client.target("/").request().get())));
+            }
+        }
+
+        assertThat(statuses).extracting(Future::get)
+                .containsOnlyOnce(201, 202, 203)
+                .filteredOn(status -> status == 204).hasSize(197);
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testNamed_name_null",
+                        (ThrowingCallable) () -> Scenario.named(null), "'name' must not be null."),
+                argumentSet("testNamed_initialState_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario", null), "'initialState' must not be null."),
+                argumentSet("testSetState_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario").setState(null), "'newState' must not be null."),
+                argumentSet("testInState_state_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario").respond().inState(null, withNoContent()), "'state' must not be null."),
+                argumentSet("testInState_responseCreator_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario").respond().inState("A", null), "'responseCreator' must not be null."),
+                argumentSet("testInState_nextState_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario").respond().inState("A", withNoContent(), null), "'nextState' must not be null."),
+                argumentSet("testOtherwise_null",
+                        (ThrowingCallable) () -> Scenario.named("scenario").respond().otherwise(null), "'responseCreator' must not be null."),
+                argumentSet("testWithSequence_null",
+                        (ThrowingCallable) () -> withSequence((ResponseCreator[]) null), "'responseCreators' must not be null."),
+                argumentSet("testWithSequence_empty",
+                        (ThrowingCallable) MockResponseCreators::withSequence, "'responseCreators' must not be empty.")
+        );
+    }
+
+    private static int statusOf(Response response) {
+        try (response) {
+            return response.getStatus();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ConnectionMetricsTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testConnectionReuse() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().expectMaxConnections(1).start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(ExpectedCount.times(5), anything()).andRespond(withSuccess("Hello", TEXT_PLAIN_TYPE));
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(client.target(loopback.getBaseUri()).request().get(String.class)).isEqualTo("Hello");
+            }
+
+            ConnectionMetrics metrics = server.getConnectionMetrics();
+            assertThat(metrics.getConnections()).isEqualTo(1);
+            assertThat(metrics.getRequests()).isEqualTo(5);
+            assertThat(metrics.getRequestsPerConnection()).isEqualTo(5);
+            assertThat(metrics.getMaxRequestsPerConnection()).isEqualTo(5);
+            assertThat(metrics.getReuseRatio()).isEqualTo(0.8);
+            assertThat(metrics.getPeakConcurrentConnections()).isEqualTo(1);
+            assertThat(metrics.getBytesSent()).isEqualTo(25);
+            server.verify();
+        }
+    }
+
+    @JaxRsVendorTest
+    void testLeakedConnections() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().expectMaxConnections(1).start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(ExpectedCount.times(3), anything()).andRespond(withSuccess("Hello", TEXT_PLAIN_TYPE));
+
+            List<Response> unclosed = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                unclosed.add(client.target(loopback.getBaseUri()).request().get());
+            }
+
+            assertThat(server.getConnectionMetrics().getConnections()).isEqualTo(3);
+            assertThat(server.getConnectionMetrics().getReuseRatio()).isZero();
+            assertThatThrownBy(server::verify)
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageStartingWith("Expected at most 1 connection(s) but the client opened 3.");
+            unclosed.forEach(Response::close);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testBytesReceived() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(anything()).andRespond(withSuccess("Hello", TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target(loopback.getBaseUri()).request().post(Entity.text("payload"))) {
+                assertThat(response.readEntity(String.class)).isEqualTo("Hello");
+            }
+
+            assertThat(server.getConnectionMetrics().getBytesReceived()).isEqualTo(7);
+            assertThat(server.getConnectionMetrics().getBytesSent()).isEqualTo(5);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testMetricsOutliveRebind() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer first = loopback.getMockRestServer();
+            first.expect(anything()).andRespond(withSuccess("first", TEXT_PLAIN_TYPE));
+            client.target(loopback.getBaseUri()).request().get(String.class);
+
+            MockRestServer second = first.rebind();
+            second.expect(anything()).andRespond(withSuccess("second", TEXT_PLAIN_TYPE));
+            client.target(loopback.getBaseUri()).request().get(String.class);
+
+            assertThat(second.getConnectionMetrics().getRequests()).isEqualTo(2);
+            assertThat(second.getConnectionMetrics().getConnections()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testIdleConnectionsAreForgotten() throws InterruptedException {
+        ConnectionTracker tracker = new ConnectionTracker(Long.MAX_VALUE, Duration.ofMillis(1));
+        InetSocketAddress first = new InetSocketAddress(InetAddress.getLoopbackAddress(), 50_000);
+        InetSocketAddress second = new InetSocketAddress(InetAddress.getLoopbackAddress(), 50_001);
+
+        tracker.begin(first);
+        tracker.end(first);
+        Thread.sleep(10);
+        // The port was reused by the operating system after the server closed the idle connection
+        tracker.begin(first);
+        tracker.end(first);
+        Thread.sleep(10);
+        tracker.begin(second);
+        tracker.end(second);
+
+        assertThat(tracker.snapshot().getConnections()).isEqualTo(3);
+        assertThat(tracker.snapshot().getMaxRequestsPerConnection()).isEqualTo(1);
+        assertThat(tracker.getTrackedConnections()).isOne();
+    }
+
+    @Test
+    void testConnectionReusedWithinIdleTimeout() {
+        ConnectionTracker tracker = new ConnectionTracker(Long.MAX_VALUE, Duration.ofMinutes(1));
+        InetSocketAddress client = new InetSocketAddress(InetAddress.getLoopbackAddress(), 50_000);
+
+        for (int i = 0; i < 3; i++) {
+            tracker.begin(client);
+            tracker.end(client);
+        }
+
+        assertThat(tracker.snapshot().getConnections()).isOne();
+        assertThat(tracker.snapshot().getMaxRequestsPerConnection()).isEqualTo(3);
+        assertThat(tracker.getTrackedConnections()).isOne();
+    }
+
+    @Test
+    void testNoLoopbackServer() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        assertThatThrownBy(server::getConnectionMetrics)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Connection metrics are only available for the MockRestServer of a LoopbackServer.");
+    }
+
+    @Test
+    void testExpectMaxConnectionsValidation() {
+        assertThatThrownBy(() -> LoopbackServer.builder().expectMaxConnections(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'maxConnections' must be positive.");
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.jsonPath;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withNoContent;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.HttpMethod.GET;
+import static jakarta.ws.rs.HttpMethod.POST;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ExpectationSetTest {
+    private static final ExpectationSet USERS = ExpectationSet.builder()
+            .expect(requestTo("/users/42")).andExpect(method(GET)).andRespond(withSuccess("Jane", TEXT_PLAIN_TYPE))
+            .expect(ExpectedCount.times(2), requestTo("/users")).andExpect(method(POST)).andExpect(jsonPath("$.name").exists())
+            .andRespond(withNoContent())
+            .build();
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @AutoClose
+    private final Client otherClient = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testSharedBetweenServers() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        MockRestServer otherServer = MockRestServer.bindTo(otherClient).build();
+        server.expectAll(USERS);
+        otherServer.expectAll(USERS);
+
+        for (Client current : new Client[]{client, otherClient}) {
+            assertThat(current.target("/users/42").request().get(String.class)).isEqualTo("Jane");
+            for (int i = 0; i < 2; i++) {
+                assertThat(current.target("/users").request().post(Entity.json("{\"name\":\"John\"}")).getStatus()).isEqualTo(204);
+            }
+        }
+
+        assertThat(USERS.size()).isEqualTo(2);
+        server.verify();
+        otherServer.verify();
+    }
+
+    @JaxRsVendorTest
+    void testFreshCountersAfterReset() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(USERS);
+        assertThat(client.target("/users/42").request().get(String.class)).isEqualTo("Jane");
+
+        server.reset();
+        server.expectAll(USERS);
+        server.expect(anything()).andRespond(withSuccess("Other", TEXT_PLAIN_TYPE));
+
+        assertThatThrownBy(server::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 3 unsatisfied expectation(s).");
+    }
+
+    @Test
+    void testMissingResponse() {
+        ExpectationSet.Builder builder = ExpectationSet.builder();
+        builder.expect(anything());
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Every expectation of an ExpectationSet must define a response.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testExpect_requestMatcher_null",
+                        (ThrowingCallable) () -> ExpectationSet.builder().expect(null), "'requestMatcher' must not be null."),
+                argumentSet("testExpect_count_null",
+                        (ThrowingCallable) () -> ExpectationSet.builder().expect(null, anything()), "'count' must not be null."),
+                argumentSet("testAndExpect_requestMatcher_null",
+                        (ThrowingCallable) () -> ExpectationSet.builder().expect(anything()).andExpect(null), "'requestMatcher' must not be null."),
+                argumentSet("testAndRespond_responseCreator_null",
+                        (ThrowingCallable) () -> ExpectationSet.builder().expect(anything()).andRespond(null), "'responseCreator' must not be null."),
+                argumentSet("testExpectAll_expectationSet_null",
+                        (ThrowingCallable) () -> MockRestServer.bindTo(ClientBuilder.newBuilder()).build().expectAll((ExpectationSet) null),
+                        "'expectationSet' must not be null.")
+        );
+    }
+}
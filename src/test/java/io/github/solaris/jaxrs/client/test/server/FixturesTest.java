@@ -0,0 +1,207 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class FixturesTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @TempDir
+    private Path directory;
+
+    @JaxRsVendorTest
+    void testFixtures() throws IOException {
+        Files.createDirectories(directory.resolve("users"));
+        Files.writeString(directory.resolve("users/42.json"), "{\"id\":42,\"name\":\"Jane\"}");
+        Fixtures fixtures = load("""
+                {
+                  "expectations": [
+                    {
+                      "request": { "method": "GET", "uri": "/users/{id}", "headers": { "Accept": "application/json" } },
+                      "response": { "headers": { "Content-Type": "application/json" }, "bodyFile": "users/42.json" }
+                    },
+                    {
+                      "request": { "method": "POST", "uri": "/users", "jsonPath": { "$.name": "John" } },
+                      "response": { "status": 201, "headers": { "Location": "/users/43" }, "body": { "id": 43 } },
+                      "count": { "min": 1, "max": 1 }
+                    }
+                  ]
+                }
+                """);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(client.target("/users/42").request(APPLICATION_JSON_TYPE).get(String.class)).isEqualTo("{\"id\":42,\"name\":\"Jane\"}");
+        }
+        try (Response response = client.target("/users").request().post(Entity.json("{\"name\":\"John\"}"))) {
+            assertThat(response.getStatus()).isEqualTo(201);
+            assertThat(response.getLocation()).hasPath("/users/43");
+            assertThat(response.getMediaType().isCompatible(APPLICATION_JSON_TYPE)).isTrue();
+            assertThat(response.readEntity(String.class)).isEqualTo("{\"id\":43}");
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testLiteralSegmentsBeforeVariables() throws IOException {
+        Fixtures fixtures = load("""
+                {
+                  "expectations": [
+                    { "request": { "method": "GET", "uri": "/users/{id}" }, "response": { "body": "user" } },
+                    { "request": { "method": "GET", "uri": "/users/me" }, "response": { "body": "me" } },
+                    { "request": { "method": "GET", "uri": "https://other.example.com/users/{id}" }, "response": { "body": "other" } }
+                  ]
+                }
+                """);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        assertThat(client.target("/users/me").request().get(String.class)).isEqualTo("me");
+        assertThat(client.target("/users/42").request().get(String.class)).isEqualTo("user");
+        assertThat(client.target("https://other.example.com/users/42").request().get(String.class)).isEqualTo("other");
+        assertThat(client.target("https://api.example.com/users/42").request().get(String.class)).isEqualTo("user");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testFixturesBeforeExpectations() throws IOException {
+        Fixtures fixtures = load("""
+                { "expectations": [ { "request": { "method": "GET", "uri": "/config" }, "response": { "body": "fixture" } } ] }
+                """);
+        MockRestServer server = MockRestServer.bindTo(client).withRequestOrder(RequestOrder.STRICT).build();
+        server.expect(requestTo("/first")).andRespond(withSuccess("first", APPLICATION_JSON_TYPE));
+        server.expect(requestTo("/second")).andRespond(withSuccess("second", APPLICATION_JSON_TYPE));
+        server.expectAll(fixtures);
+
+        assertThat(client.target("/config").request().get(String.class)).isEqualTo("fixture");
+        assertThat(client.target("/first").request().get(String.class)).isEqualTo("first");
+        assertThat(client.target("/config").request().get(String.class)).isEqualTo("fixture");
+        assertThat(client.target("/second").request().get(String.class)).isEqualTo("second");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testUnsatisfiedCount() throws IOException {
+        Fixtures fixtures = load("""
+                {
+                  "expectations": [
+                    { "request": { "method": "DELETE", "uri": "/users/{id}" }, "response": { "status": 204 }, "count": { "min": 2, "max": 2 } }
+                  ]
+                }
+                """);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        client.target("/users/1").request().delete().close();
+
+        assertThatThrownBy(server::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 1 unsatisfied expectation(s).");
+    }
+
+    @JaxRsVendorTest
+    void testManyFixtures() throws IOException {
+        String expectations = IntStream.range(0, 10_000)
+                .mapToObj(i -> "{ \"request\": { \"method\": \"GET\", \"uri\": \"/items/" + i + "/{variant}\" }, \"response\": { \"body\": \"" + i + "\" } }")
+                .collect(Collectors.joining(",\n", "{ \"expectations\": [\n", "\n] }"));
+        Fixtures fixtures = load(expectations);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        assertThat(fixtures.size()).isEqualTo(10_000);
+        assertThat(client.target("/items/9999/small").request().get(String.class)).isEqualTo("9999");
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testReset() throws IOException {
+        Fixtures fixtures = load("""
+                { "expectations": [ { "request": { "method": "GET", "uri": "/config" }, "response": { "body": "fixture" } } ] }
+                """);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+        server.reset();
+        server.expect(requestTo("/config")).andRespond(withSuccess("expectation", APPLICATION_JSON_TYPE));
+
+        assertThat(client.target("/config").request().get(String.class)).isEqualTo("expectation");
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidFixtures")
+    void testInvalidFixture(String json, String exceptionMessage) {
+        assertThatThrownBy(() -> load(json))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void testArgumentValidation() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        assertThatThrownBy(() -> Fixtures.load(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'file' must not be null.");
+        assertThatThrownBy(() -> server.expectAll((Fixtures) null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'fixtures' must not be null.");
+    }
+
+    private static Stream<Arguments> invalidFixtures() {
+        return Stream.of(
+                argumentSet("testExpectations_missing",
+                        "{}", "'expectations' must be a JSON array but was null"),
+                argumentSet("testRequest_missing",
+                        "{ \"expectations\": [ { \"response\": {} } ] }", "'expectations[0].request' must be a JSON object but was null"),
+                argumentSet("testMethod_notString",
+                        "{ \"expectations\": [ { \"request\": { \"method\": 1, \"uri\": \"/\" }, \"response\": {} } ] }",
+                        "'expectations[0].request.method' must be a string but was 1"),
+                argumentSet("testUri_query",
+                        "{ \"expectations\": [ { \"request\": { \"method\": \"GET\", \"uri\": \"/a?b=c\" }, \"response\": {} } ] }",
+                        "'expectations[0].request.uri' must not contain a query or fragment but was /a?b=c"),
+                argumentSet("testHeader_notString",
+                        "{ \"expectations\": [ { \"request\": { \"method\": \"GET\", \"uri\": \"/\", \"headers\": { \"Accept\": [1] } }, \"response\": {} } ] }",
+                        "'expectations[0].request.headers.Accept[0]' must be a string but was 1"),
+                argumentSet("testBody_number",
+                        "{ \"expectations\": [ { \"request\": { \"method\": \"GET\", \"uri\": \"/\" }, \"response\": { \"body\": 1 } } ] }",
+                        "'expectations[0].response.body' must be a string, a JSON object or a JSON array but was 1"),
+                argumentSet("testCount_invalid",
+                        "{ \"expectations\": [ { \"request\": { \"method\": \"GET\", \"uri\": \"/\" }, \"response\": {}, \"count\": { \"min\": 1 } } ] }",
+                        "'expectations[0].count.max' must be an integer but was null")
+        );
+    }
+
+    private Fixtures load(String json) throws IOException {
+        Path file = Files.writeString(directory.resolve("fixtures.json"), json);
+        return Fixtures.load(file);
+    }
+}
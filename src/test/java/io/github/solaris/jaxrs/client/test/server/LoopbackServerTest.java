@@ -0,0 +1,229 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.entity;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.header;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withException;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withNdjson;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withNoContent;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.EntityConverter;
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.response.EventFeed;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class LoopbackServerTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testExpectationsAreServedOverHttp() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(requestTo(loopback.getBaseUri().resolve("/greeting?name=Jane")))
+                    .andExpect(method("GET"))
+                    .andExpect(header("Accept", "text/plain"))
+                    .andRespond(withSuccess("Hello, Jane", TEXT_PLAIN_TYPE).header("X-Served-By", "loopback"));
+
+            try (Response response = client.target(loopback.getBaseUri()).path("greeting").queryParam("name", "Jane").request(TEXT_PLAIN_TYPE).get()) {
+                assertThat(response.getStatus()).isEqualTo(200);
+                assertThat(response.getHeaderString("X-Served-By")).isEqualTo("loopback");
+                assertThat(response.readEntity(String.class)).isEqualTo("Hello, Jane");
+            }
+            server.verify();
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRequestEntity() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(method("POST"))
+                    .andExpect(entity().mediaType(TEXT_PLAIN_TYPE))
+                    .andExpect(entity().string("payload"))
+                    .andRespond(withNoContent());
+
+            try (Response response = client.target(loopback.getBaseUri()).request().post(Entity.text("payload"))) {
+                assertThat(response.getStatus()).isEqualTo(204);
+            }
+            server.verify();
+        }
+    }
+
+    @JaxRsVendorTest
+    void testEntityConverterIsShared() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            Set<EntityConverter> converters = ConcurrentHashMap.newKeySet();
+            server.expect(ExpectedCount.times(3), request -> converters.add(EntityConverter.fromRequestContext(request)))
+                    .andExpect(entity().string("payload"))
+                    .andRespond(withSuccess("Hello", TEXT_PLAIN_TYPE));
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(client.target(loopback.getBaseUri()).request().post(Entity.text("payload"), String.class)).isEqualTo("Hello");
+            }
+            server.verify();
+            assertThat(converters).hasSize(1);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testUnexpectedRequest() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            MockRestServer server = loopback.getMockRestServer();
+            server.expect(anything()).andRespond(withNoContent());
+            client.target(loopback.getBaseUri()).request().get().close();
+
+            try (Response response = client.target(loopback.getBaseUri()).path("unexpected").request().get()) {
+                assertThat(response.getStatus()).isEqualTo(500);
+                assertThat(response.readEntity(String.class)).startsWith("No further requests expected");
+            }
+            assertThatThrownBy(server::verify)
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("Some requests did not execute successfully.");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testIOExceptionClosesConnection() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            // Connectors may retry a request once the connection was closed without a response
+            loopback.getMockRestServer().expect(ExpectedCount.min(1), anything()).andRespond(withException(new IOException("Connection reset")));
+
+            assertThatThrownBy(() -> client.target(loopback.getBaseUri()).request().get().close())
+                    .isInstanceOf(ProcessingException.class);
+        }
+    }
+
+    @JaxRsVendorTest
+    void testResponseIsStreamed() throws IOException {
+        CountDownLatch firstLineRead = new CountDownLatch(1);
+        EventFeed items = EventFeed.fromIterator(() -> new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < 2;
+            }
+
+            @Override
+            public Object next() {
+                if (index++ == 1) {
+                    try {
+                        if (!firstLineRead.await(10, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("The first line was not received before the second was sent.");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return "{\"index\":" + index + "}";
+            }
+        });
+
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            loopback.getMockRestServer().expect(anything()).andRespond(withNdjson(items));
+
+            try (Response response = client.target(loopback.getBaseUri()).request().get();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(response.readEntity(InputStream.class), UTF_8))) {
+                assertThat(reader.readLine()).isEqualTo("{\"index\":1}");
+                firstLineRead.countDown();
+                assertThat(reader.readLine()).isEqualTo("{\"index\":2}");
+                assertThat(reader.readLine()).isNull();
+            }
+        }
+    }
+
+    @JaxRsVendorTest
+    void testLargeBodyWithContentLength() throws IOException {
+        byte[] body = new byte[1 << 20];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+
+        try (LoopbackServer loopback = LoopbackServer.builder().start()) {
+            loopback.getMockRestServer().expect(ExpectedCount.times(2), anything())
+                    .andRespond(withSuccess(new ByteArrayInputStream(body), APPLICATION_OCTET_STREAM_TYPE).header("Content-Length", body.length));
+
+            try (Response response = client.target(loopback.getBaseUri()).request().get()) {
+                assertThat(response.getLength()).isEqualTo(body.length);
+                assertThat(response.readEntity(byte[].class)).isEqualTo(body);
+            }
+            try (Response response = client.target(loopback.getBaseUri()).request().head()) {
+                assertThat(response.getStatus()).isEqualTo(200);
+            }
+            loopback.getMockRestServer().verify();
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRebind() throws IOException {
+        try (LoopbackServer loopback = LoopbackServer.builder().withRequestOrder(RequestOrder.UNORDERED).start()) {
+            MockRestServer first = loopback.getMockRestServer();
+            first.expect(anything()).andRespond(withSuccess("first", TEXT_PLAIN_TYPE));
+            assertThat(client.target(loopback.getBaseUri()).request().get(String.class)).isEqualTo("first");
+            first.verify();
+
+            MockRestServer second = first.rebind();
+            second.expect(anything()).andRespond(withSuccess("second", TEXT_PLAIN_TYPE));
+            assertThat(client.target(loopback.getBaseUri()).request().get(String.class)).isEqualTo("second");
+            second.verify();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithRequestOrder_null",
+                        (ThrowingCallable) () -> LoopbackServer.builder().withRequestOrder(null), "'order' must not be null."),
+                argumentSet("testWithClock_null",
+                        (ThrowingCallable) () -> LoopbackServer.builder().withClock(null), "'clock' must not be null."),
+                argumentSet("testWithExecutor_null",
+                        (ThrowingCallable) () -> LoopbackServer.builder().withExecutor(null), "'executor' must not be null."),
+                argumentSet("testWithPort_negative",
+                        (ThrowingCallable) () -> LoopbackServer.builder().withPort(-1), "'port' must not be negative.")
+        );
+    }
+}
@@ -87,6 +87,9 @@ class MockRestServerTest {
                     argumentSet("testBuild_order_null",
                             (Consumer<Client>) client -> MockRestServer.bindTo(client).withRequestOrder(null),
                             "'order' must not be null."),
+                    argumentSet("testBuild_clock_null",
+                            (Consumer<Client>) client -> MockRestServer.bindTo(client).withClock(null),
+                            "'clock' must not be null."),
                     argumentSet("testVerify_timeout_null",
                             (Consumer<Client>) client -> MockRestServer.bindTo(client).build().verify(null),
                             "'timeout' must not be null."),
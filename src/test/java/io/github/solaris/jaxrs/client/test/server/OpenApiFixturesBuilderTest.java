@@ -0,0 +1,207 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withBadRequest;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class OpenApiFixturesBuilderTest {
+    private static final String PETSTORE = """
+            {
+              "openapi": "3.0.3",
+              "servers": [ { "url": "https://{host}/v1/", "variables": { "host": { "default": "petstore.example.com" } } } ],
+              "paths": {
+                "/pets": {
+                  "get": {
+                    "parameters": [ { "$ref": "#/components/parameters/limit" } ],
+                    "responses": {
+                      "200": {
+                        "description": "A page of pets",
+                        "headers": { "X-Total-Count": { "schema": { "type": "integer", "example": 2 } } },
+                        "content": { "application/json": { "example": [ { "id": 1, "name": "Rex" }, { "id": 2, "name": "Tom" } ] } }
+                      },
+                      "default": { "description": "Error" }
+                    }
+                  },
+                  "post": {
+                    "requestBody": { "required": true, "content": { "application/json": { "schema": { "$ref": "#/components/schemas/Pet" } } } },
+                    "responses": {
+                      "201": {
+                        "description": "Created",
+                        "content": { "application/json": { "examples": { "rex": { "$ref": "#/components/examples/Rex" } } } }
+                      }
+                    }
+                  }
+                },
+                "/pets/{petId}": {
+                  "parameters": [ { "name": "petId", "in": "path", "required": true, "schema": { "type": "integer" } } ],
+                  "get": {
+                    "parameters": [ { "name": "X-Request-Id", "in": "header", "required": true, "schema": { "type": "string" } } ],
+                    "responses": {
+                      "default": { "description": "A pet", "content": { "application/json": { "schema": { "$ref": "#/components/schemas/Pet" } } } }
+                    }
+                  },
+                  "delete": { "responses": { "204": { "description": "Deleted" } } }
+                },
+                "/pets/{petId}/name": {
+                  "get": { "responses": { "200": { "description": "The name", "content": { "text/plain": { "example": "Rex" } } } } }
+                }
+              },
+              "components": {
+                "parameters": { "limit": { "name": "limit", "in": "query", "required": true, "schema": { "type": "integer" } } },
+                "schemas": { "Pet": { "type": "object", "example": { "id": 1, "name": "Rex" } } },
+                "examples": { "Rex": { "value": { "id": 3, "name": "Rex" } } }
+              }
+            }
+            """;
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @TempDir
+    private Path directory;
+
+    @JaxRsVendorTest
+    void testOperations() throws IOException {
+        Fixtures fixtures = Fixtures.fromOpenApi(write(PETSTORE)).build();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        assertThat(fixtures.size()).isEqualTo(5);
+        try (Response response = client.target("https://petstore.example.com/v1/pets").queryParam("limit", 2).request().get()) {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeaderString("X-Total-Count")).isEqualTo("2");
+            assertThat(response.getMediaType().isCompatible(APPLICATION_JSON_TYPE)).isTrue();
+            assertThat(response.readEntity(String.class)).isEqualTo("[{\"id\":1,\"name\":\"Rex\"},{\"id\":2,\"name\":\"Tom\"}]");
+        }
+        try (Response response = client.target("/v1/pets").request().post(Entity.json("{\"name\":\"Rex\"}"))) {
+            assertThat(response.getStatus()).isEqualTo(201);
+            assertThat(response.readEntity(String.class)).isEqualTo("{\"id\":3,\"name\":\"Rex\"}");
+        }
+        assertThat(client.target("/v1/pets/1").request().header("X-Request-Id", "abc").get(String.class)).isEqualTo("{\"id\":1,\"name\":\"Rex\"}");
+        assertThat(client.target("/v1/pets/1/name").request().get(String.class)).isEqualTo("Rex");
+        try (Response response = client.target("/v1/pets/1").request().delete()) {
+            assertThat(response.getStatus()).isEqualTo(204);
+            assertThat(response.hasEntity()).isFalse();
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testRequiredParametersMissing() throws IOException {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(Fixtures.fromOpenApi(write(PETSTORE)).build());
+        server.expect(ExpectedCount.times(3), anything()).andRespond(withBadRequest());
+
+        try (Response response = client.target("/v1/pets").request().get()) {
+            assertThat(response.getStatus()).isEqualTo(400);
+        }
+        try (Response response = client.target("/v1/pets/1").request().get()) {
+            assertThat(response.getStatus()).isEqualTo(400);
+        }
+        try (Response response = client.target("/v1/pets").request().post(null)) {
+            assertThat(response.getStatus()).isEqualTo(400);
+        }
+        server.verify();
+    }
+
+    @JaxRsVendorTest
+    void testBasePathAndCount() throws IOException {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(Fixtures.fromOpenApi(write(PETSTORE)).basePath("/").count(ExpectedCount.once()).build());
+
+        client.target("/pets/1").request().delete().close();
+
+        assertThatThrownBy(server::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 4 unsatisfied expectation(s).");
+    }
+
+    @JaxRsVendorTest
+    void testManyOperations() throws IOException {
+        String paths = IntStream.range(0, 500)
+                .mapToObj(i -> "\"/resources" + i + "/{id}\": { \"get\": { \"responses\": { \"200\": { \"description\": \"\","
+                        + " \"content\": { \"text/plain\": { \"example\": \"" + i + "\" } } } } } }")
+                .collect(Collectors.joining(",\n", "{ \"openapi\": \"3.1.0\", \"paths\": {\n", "\n} }"));
+        Fixtures fixtures = Fixtures.fromOpenApi(write(paths)).build();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expectAll(fixtures);
+
+        assertThat(fixtures.size()).isEqualTo(500);
+        assertThat(client.target("/resources499/1").request().get(String.class)).isEqualTo("499");
+        server.verify();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDocuments")
+    void testInvalidDocument(String json, String exceptionMessage) {
+        assertThatThrownBy(() -> Fixtures.fromOpenApi(write(json)).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    private static Stream<Arguments> invalidDocuments() {
+        return Stream.of(
+                argumentSet("testOpenApi_missing",
+                        "{}", "'openapi' must be a string but was null"),
+                argumentSet("testOpenApi_swagger",
+                        "{ \"openapi\": \"2.0\" }", "'openapi' must be a 3.x version but was 2.0"),
+                argumentSet("testResponses_missing",
+                        "{ \"openapi\": \"3.0.0\", \"paths\": { \"/a\": { \"get\": {} } } }", "'paths./a.get.responses' must be a JSON object but was null"),
+                argumentSet("testRef_remote",
+                        "{ \"openapi\": \"3.0.0\", \"paths\": { \"/a\": { \"$ref\": \"other.json#/a\" } } }",
+                        "'paths./a.$ref' must be a resolvable local reference but was other.json#/a"),
+                argumentSet("testRef_missing",
+                        "{ \"openapi\": \"3.0.0\", \"paths\": { \"/a\": { \"$ref\": \"#/components/pathItems/a\" } } }",
+                        "'paths./a.$ref' must be a resolvable local reference but was #/components/pathItems/a")
+        );
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testFromOpenApi_file_null",
+                        (ThrowingCallable) () -> Fixtures.fromOpenApi(null), "'file' must not be null."),
+                argumentSet("testBasePath_null",
+                        (ThrowingCallable) () -> Fixtures.fromOpenApi(Path.of("openapi.json")).basePath(null), "'basePath' must not be null."),
+                argumentSet("testCount_null",
+                        (ThrowingCallable) () -> Fixtures.fromOpenApi(Path.of("openapi.json")).count(null), "'count' must not be null.")
+        );
+    }
+
+    private Path write(String json) throws IOException {
+        return Files.writeString(directory.resolve("openapi.json"), json);
+    }
+}
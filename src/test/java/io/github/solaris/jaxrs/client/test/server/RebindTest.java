@@ -0,0 +1,85 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AutoClose;
+
+import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class RebindTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testRebind() {
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(ExpectedCount.times(2), requestTo("/first")).andRespond(withSuccess("first", TEXT_PLAIN_TYPE));
+        assertThat(client.target("/first").request().get(String.class)).isEqualTo("first");
+
+        MockRestServer rebound = server.rebind();
+        rebound.verify();
+        rebound.expect(requestTo("/second")).andRespond(withSuccess("second", TEXT_PLAIN_TYPE));
+        assertThat(client.target("/second").request().get(String.class)).isEqualTo("second");
+
+        rebound.verify();
+        assertThatThrownBy(server::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 1 unsatisfied expectation(s).");
+    }
+
+    @JaxRsVendorTest
+    void testInFlightRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MockRestServer server = MockRestServer.bindTo(client).build();
+        server.expect(requestTo("/slow")).andRespond(request -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            return Response.ok("slow").build();
+        });
+
+        Future<String> inFlight = client.target("/slow").request().async().get(String.class);
+        assertThat(entered.await(10, SECONDS)).isTrue();
+
+        MockRestServer rebound = server.rebind();
+        rebound.expect(requestTo("/fast")).andRespond(withSuccess("fast", TEXT_PLAIN_TYPE));
+        release.countDown();
+
+        assertThat(inFlight.get(10, SECONDS)).isEqualTo("slow");
+        assertThat(client.target("/fast").request().get(String.class)).isEqualTo("fast");
+        server.verify();
+        rebound.verify();
+    }
+
+    @JaxRsVendorTest
+    void testReplacedServer() {
+        VirtualClock clock = VirtualClock.create();
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        MockRestServer rebound = server.rebind();
+
+        assertThat(rebound.getClock()).isSameAs(clock);
+        assertThatThrownBy(() -> server.expect(requestTo("/first")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot declare expectations on a MockRestServer that was replaced via rebind().");
+    }
+}
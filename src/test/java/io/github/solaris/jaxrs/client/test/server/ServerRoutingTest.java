@@ -0,0 +1,111 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.net.URI;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.util.FilterExceptionAssert;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ServerRoutingTest {
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    @JaxRsVendorTest
+    void testRouting() {
+        MockRestServer users = MockRestServer.bindTo(client).withBaseUri(URI.create("https://users.example.com")).build();
+        MockRestServer orders = MockRestServer.bindTo(client).withBaseUri(URI.create("https://api.example.com/orders/")).build();
+        MockRestServer api = MockRestServer.bindTo(client).withBaseUri(URI.create("https://api.example.com")).build();
+        MockRestServer fallback = MockRestServer.bindTo(client).build();
+
+        users.expect(requestTo("https://users.example.com/42")).andRespond(withSuccess("user", TEXT_PLAIN_TYPE));
+        orders.expect(requestTo("https://API.example.com:443/orders/1")).andRespond(withSuccess("order", TEXT_PLAIN_TYPE));
+        api.expect(requestTo("https://api.example.com/ordersummary")).andRespond(withSuccess("summary", TEXT_PLAIN_TYPE));
+        fallback.expect(requestTo("http://users.example.com/42")).andRespond(withSuccess("fallback", TEXT_PLAIN_TYPE));
+
+        // Interleaved requests don't violate the order of the individual servers
+        assertThat(client.target("https://API.example.com:443/orders/1").request().get(String.class)).isEqualTo("order");
+        assertThat(client.target("http://users.example.com/42").request().get(String.class)).isEqualTo("fallback");
+        assertThat(client.target("https://api.example.com/ordersummary").request().get(String.class)).isEqualTo("summary");
+        assertThat(client.target("https://users.example.com/42").request().get(String.class)).isEqualTo("user");
+
+        users.verify();
+        orders.verify();
+        api.verify();
+        fallback.verify();
+    }
+
+    @JaxRsVendorTest
+    void testIndependentVerification() {
+        MockRestServer users = MockRestServer.bindTo(client).withBaseUri(URI.create("https://users.example.com")).build();
+        MockRestServer orders = MockRestServer.bindTo(client).withBaseUri(URI.create("https://orders.example.com")).build();
+        users.expect(requestTo("https://users.example.com/42")).andRespond(withSuccess("user", TEXT_PLAIN_TYPE));
+        orders.expect(requestTo("https://orders.example.com/1")).andRespond(withSuccess("order", TEXT_PLAIN_TYPE));
+
+        assertThat(client.target("https://users.example.com/42").request().get(String.class)).isEqualTo("user");
+
+        users.verify();
+        assertThatThrownBy(orders::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 1 unsatisfied expectation(s).");
+    }
+
+    @JaxRsVendorTest
+    void testRebindRoute() {
+        MockRestServer users = MockRestServer.bindTo(client).withBaseUri(URI.create("https://users.example.com")).build();
+        MockRestServer orders = MockRestServer.bindTo(client).withBaseUri(URI.create("https://orders.example.com")).build();
+        orders.expect(requestTo("https://orders.example.com/1")).andRespond(withSuccess("order", TEXT_PLAIN_TYPE));
+
+        MockRestServer rebound = users.rebind();
+        rebound.expect(requestTo("https://users.example.com/42")).andRespond(withSuccess("rebound", TEXT_PLAIN_TYPE));
+
+        assertThat(client.target("https://users.example.com/42").request().get(String.class)).isEqualTo("rebound");
+        assertThat(client.target("https://orders.example.com/1").request().get(String.class)).isEqualTo("order");
+        rebound.verify();
+        orders.verify();
+    }
+
+    @JaxRsVendorTest
+    void testNoRoute(FilterExceptionAssert filterExceptionAssert) {
+        MockRestServer.bindTo(client).withBaseUri(URI.create("https://users.example.com")).build();
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("https://orders.example.com/1").request().get().close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("No MockRestServer is bound to the base URI of the request: HTTP GET https://orders.example.com/1");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testWithBaseUri_null",
+                        (ThrowingCallable) () -> MockRestServer.bindTo(ClientBuilder.newBuilder()).withBaseUri(null), "'baseUri' must not be null."),
+                argumentSet("testWithBaseUri_relative",
+                        (ThrowingCallable) () -> MockRestServer.bindTo(ClientBuilder.newBuilder()).withBaseUri(URI.create("/users")),
+                        "'baseUri' must be absolute but was /users")
+        );
+    }
+}
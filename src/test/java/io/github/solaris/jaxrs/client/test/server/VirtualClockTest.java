@@ -0,0 +1,168 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class VirtualClockTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @AutoClose
+    private final Client client = ClientBuilder.newClient();
+
+    private final VirtualClock clock = VirtualClock.startingAt(START);
+
+    @Test
+    void testAdvance() {
+        assertThat(clock.instant()).isEqualTo(START);
+
+        clock.advance(Duration.ofHours(2));
+
+        assertThat(clock.instant()).isEqualTo(START.plus(Duration.ofHours(2)));
+        assertThat(clock.millis()).isEqualTo(START.plus(Duration.ofHours(2)).toEpochMilli());
+    }
+
+    @Test
+    void testWithZone() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        Clock zoned = clock.withZone(berlin);
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(zoned.getZone()).isEqualTo(berlin);
+        assertThat(zoned.instant()).isEqualTo(clock.instant());
+        assertThat(zoned).isNotEqualTo(clock);
+        assertThat(clock.withZone(berlin)).isEqualTo(zoned).hasSameHashCodeAs(zoned);
+    }
+
+    @JaxRsVendorTest
+    void testGetClock() {
+        assertThat(MockRestServer.bindTo(client).withClock(clock).build().getClock()).isSameAs(clock);
+        assertThat(MockRestServer.bindTo(client).build().getClock().getZone()).isEqualTo(Clock.systemUTC().getZone());
+    }
+
+    @JaxRsVendorTest
+    void testDelayedResponse_completesWhenAdvanced() {
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/slow")).andRespond(withSuccess().delay(Duration.ofMinutes(5)));
+
+        Future<Response> response = client.target("/slow").request().async().get();
+        clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(response).isNotDone();
+        assertThat(clock.getPendingDelays()).isOne();
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(response)
+                .succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(OK));
+        assertThat(clock.getPendingDelays()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testVerifyWithTimeout_waitsForLateRequest() {
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/late")).andRespond(withSuccess());
+
+        CompletableFuture<Void> late = CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            client.target("/late").request().get().close();
+        });
+
+        assertThatCode(() -> server.verify(Duration.ofSeconds(10))).doesNotThrowAnyException();
+        assertThat(late).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(clock.instant()).isEqualTo(START);
+    }
+
+    @JaxRsVendorTest
+    void testVerifyWithTimeout_doesNotAdvanceDelays() {
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/slow")).andRespond(withSuccess().delay(Duration.ofHours(1)));
+
+        Future<Response> response = client.target("/slow").request().async().get();
+        clock.awaitPendingDelays(1, Duration.ofSeconds(5));
+
+        assertThatCode(() -> server.verify(Duration.ofMillis(100))).doesNotThrowAnyException();
+        assertThat(clock.instant()).isEqualTo(START);
+        assertThat(response).isNotDone();
+
+        clock.advance(Duration.ofHours(1));
+        assertThat(response).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @JaxRsVendorTest
+    void testVerifyWithTimeout_unsatisfied() {
+        MockRestServer server = MockRestServer.bindTo(client).withClock(clock).build();
+        server.expect(requestTo("/hello")).andRespond(withSuccess());
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> server.verify(Duration.ofMillis(100)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Further request(s) expected leaving 1 unsatisfied expectation(s).");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(clock.instant()).isEqualTo(START);
+    }
+
+    @Test
+    void testAwaitPendingDelays_timeout() {
+        assertThatThrownBy(() -> clock.awaitPendingDelays(1, Duration.ofMillis(10)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Expected 1 pending delay(s) but found 0.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        VirtualClock clock = VirtualClock.create();
+        return Stream.of(
+                argumentSet("testStartingAt_null",
+                        (ThrowingCallable) () -> VirtualClock.startingAt(null), "'start' must not be null."),
+                argumentSet("testAdvance_null",
+                        (ThrowingCallable) () -> clock.advance(null), "'duration' must not be null."),
+                argumentSet("testAdvance_negative",
+                        (ThrowingCallable) () -> clock.advance(Duration.ofMillis(-1)), "'duration' must not be negative."),
+                argumentSet("testWithZone_null",
+                        (ThrowingCallable) () -> clock.withZone(null), "'zone' must not be null."),
+                argumentSet("testAwaitPendingDelays_null",
+                        (ThrowingCallable) () -> clock.awaitPendingDelays(1, null), "'timeout' must not be null.")
+        );
+    }
+}